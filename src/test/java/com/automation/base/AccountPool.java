@@ -0,0 +1,349 @@
+package com.automation.base;
+
+import com.automation.models.User;
+import com.automation.utils.APIService;
+import com.automation.utils.TestDataFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	AccountPool
+ * Description:       	Reusable test accounts, registered once through
+ * 						APIService and leased to one test at a time.
+ * Responsibilities:
+ * 1. Ledger:         	<dir>/<site>.json lists every account with its
+ * 						status (FREE, LEASED, RETIRED), lease owner and
+ * 						use count. One ledger per base URL. Without a
+ * 						ledger path it is kept in memory (a server that
+ * 						forgets its customers, like LocalOpenCartServer).
+ * 2. Leasing:        	lease() marks a FREE account LEASED under a file
+ * 						lock, so parallel threads and forks never share
+ * 						an account. A pooled account is checked with one
+ * 						login request; one the site no longer knows (or
+ * 						whose password changed) is retired and the next
+ * 						is tried. When none is free, a batch is
+ * 						registered (outside the lock) and added.
+ * 3. Returning:      	Closing the lease frees the account. An account
+ * 						the test marked dirty is given to the recycler; if
+ * 						it cannot be reset (or there is no recycler, as
+ * 						in BaseTest), it is retired. Accounts reaching
+ * 						the use limit are retired too.
+ * 4. Recovery:       	Leases older than the lease timeout (a crashed
+ * 						fork) are freed on the next lease. Each lease
+ * 						carries a token (holder and lease time), so a
+ * 						holder whose lease was reclaimed cannot release
+ * 						the account from under its new holder.
+ * Note:              	The ledger holds passwords of throwaway test
+ * 						accounts; its directory is git-ignored.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class AccountPool {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AccountPool.class);
+
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final Type LEDGER_TYPE = new TypeToken<ArrayList<Account>>() {
+	}.getType();
+	private static final String PROCESS = ManagementFactory.getRuntimeMXBean().getName();
+
+	public enum Status {
+		FREE, LEASED, RETIRED
+	}
+
+	/**
+	 * Resets an account a test has changed (e.g. empties its cart). Returns false
+	 * when the account cannot be reused.
+	 */
+	@FunctionalInterface
+	public interface Recycler {
+		boolean recycle(User user);
+	}
+
+	/** One ledger row (serialised by Gson). */
+	private static final class Account {
+		private String email;
+		private String password;
+		private String firstName;
+		private String lastName;
+		private String telephone;
+		private Status status;
+		private String leasedBy;
+		private long leasedAt;
+		private int uses;
+
+		private User toUser() {
+			return new User(firstName, lastName, email, telephone, password);
+		}
+	}
+
+	/** An exclusively held account; close it to give the account back. */
+	public final class Lease implements AutoCloseable {
+		private final User user;
+		// Identifies this lease in the ledger (leasedBy + leasedAt)
+		private final String holder;
+		private final long leasedAt;
+		private boolean dirty;
+		private boolean closed;
+
+		private Lease(Account account) {
+			this.user = account.toUser();
+			this.holder = account.leasedBy;
+			this.leasedAt = account.leasedAt;
+		}
+
+		public User getUser() {
+			return user;
+		}
+
+		/** The test changed the account's state; recycle or retire it on close. */
+		public void markDirty() {
+			dirty = true;
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				release(this);
+			}
+		}
+	}
+
+	private final Path ledger;
+	private final Path lockFile;
+	private final Function<Playwright, APIService> apiFactory;
+	private final int batchSize;
+	private final int maxUses;
+	private final long leaseTimeoutMillis;
+	private final Recycler recycler;
+	private final Object jvmLock = new Object();
+	// The ledger when there is no ledger file
+	private final List<Account> inMemory = new ArrayList<>();
+
+	/**
+	 * @param ledger             ledger file, or null to keep the ledger in memory
+	 *                           for this JVM only
+	 * @param maxUses            leases after which an account is retired (0 = no
+	 *                           limit)
+	 * @param leaseTimeoutMillis age after which a lease is treated as abandoned
+	 * @param recycler           resets dirty accounts, or null to retire them
+	 */
+	public AccountPool(Path ledger, Function<Playwright, APIService> apiFactory, int batchSize, int maxUses,
+			long leaseTimeoutMillis, Recycler recycler) {
+		this.ledger = ledger;
+		this.lockFile = ledger == null ? null : ledger.resolveSibling(ledger.getFileName() + ".lock");
+		this.apiFactory = apiFactory;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxUses = maxUses;
+		this.leaseTimeoutMillis = leaseTimeoutMillis;
+		this.recycler = recycler;
+	}
+
+	/**
+	 * Leases a free account that can still log in, registering a new batch
+	 * through the API when the pool has none. The Playwright instance must belong
+	 * to the calling thread.
+	 */
+	public Lease lease(Playwright playwright) {
+		Lease pooled;
+		while ((pooled = leaseFree()) != null) {
+			if (canLogin(playwright, pooled.user)) {
+				LOGGER.info("Leased pooled account {}", pooled.user.getEmail());
+				return pooled;
+			}
+			LOGGER.warn("Pooled account {} can no longer log in; retiring it", pooled.user.getEmail());
+			retire(pooled);
+		}
+
+		// Pool empty: register a batch without holding the lock, keep one for us
+		List<User> batch = new ArrayList<>();
+		for (int i = 0; i < batchSize; i++) {
+			batch.add(TestDataFactory.createUser());
+		}
+		List<APIService.RegistrationResult> results;
+		try (APIService api = apiFactory.apply(playwright)) {
+			results = api.registerUsers(batch);
+		}
+		Lease leased = update(accounts -> {
+			Lease mine = null;
+			for (APIService.RegistrationResult result : results) {
+				if (!result.isSuccess()) {
+					continue;
+				}
+				Account account = fromUser(result.getUser());
+				accounts.add(account);
+				if (mine == null) {
+					mine = take(account);
+				}
+			}
+			return mine;
+		});
+		if (leased == null) {
+			throw new RuntimeException("Account pool is empty and registering " + batchSize + " new accounts failed: "
+					+ results.get(0).getError());
+		}
+		LOGGER.info("Registered {} pooled account(s); leased {}", results.stream().filter(
+				APIService.RegistrationResult::isSuccess).count(), leased.user.getEmail());
+		return leased;
+	}
+
+	private Lease leaseFree() {
+		return update(accounts -> {
+			long now = System.currentTimeMillis();
+			Account free = null;
+			for (Account account : accounts) {
+				if (account.status == Status.LEASED && now - account.leasedAt > leaseTimeoutMillis) {
+					LOGGER.warn("Freeing abandoned lease on {} (held by {})", account.email, account.leasedBy);
+					account.status = Status.FREE;
+				}
+				if (free == null && account.status == Status.FREE) {
+					free = account;
+				}
+			}
+			return free != null ? take(free) : null;
+		});
+	}
+
+	private boolean canLogin(Playwright playwright, User user) {
+		try (APIService api = apiFactory.apply(playwright)) {
+			return api.canLogin(user.getEmail(), user.getPassword());
+		} catch (RuntimeException e) {
+			// The site is down, not the account: let the test report it
+			LOGGER.warn("Could not check pooled account {}: {}", user.getEmail(), e.getMessage());
+			return true;
+		}
+	}
+
+	private void retire(Lease lease) {
+		update(accounts -> {
+			for (Account account : accounts) {
+				if (account.email.equals(lease.user.getEmail()) && account.leasedAt == lease.leasedAt
+						&& String.valueOf(account.leasedBy).equals(lease.holder)) {
+					account.status = Status.RETIRED;
+					account.leasedBy = null;
+					account.leasedAt = 0;
+				}
+			}
+			return null;
+		});
+		lease.closed = true;
+	}
+
+	private void release(Lease lease) {
+		User user = lease.user;
+		// Recycling may call the site, so do it before taking the lock
+		boolean reusable = !lease.dirty || (recycler != null && recycle(user));
+		update(accounts -> {
+			for (Account account : accounts) {
+				if (!account.email.equals(user.getEmail())) {
+					continue;
+				}
+				if (account.status != Status.LEASED || account.leasedAt != lease.leasedAt
+						|| !String.valueOf(account.leasedBy).equals(lease.holder)) {
+					// Our lease timed out and was reclaimed (maybe re-leased): leave it alone
+					LOGGER.warn("Ignoring release of {}: lease from {} is no longer held (now {} by {})",
+							account.email, lease.holder, account.status, account.leasedBy);
+					continue;
+				}
+				boolean worn = maxUses > 0 && account.uses >= maxUses;
+				account.status = reusable && !worn ? Status.FREE : Status.RETIRED;
+				account.leasedBy = null;
+				account.leasedAt = 0;
+				LOGGER.info("Returned pooled account {} as {}", account.email, account.status);
+			}
+			return null;
+		});
+	}
+
+	private boolean recycle(User user) {
+		try {
+			return recycler.recycle(user);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Could not recycle {}: {}", user.getEmail(), e.getMessage());
+			return false;
+		}
+	}
+
+	private Lease take(Account account) {
+		account.status = Status.LEASED;
+		account.leasedBy = PROCESS + "/" + Thread.currentThread().getName();
+		account.leasedAt = System.currentTimeMillis();
+		account.uses++;
+		return new Lease(account);
+	}
+
+	private static Account fromUser(User user) {
+		Account account = new Account();
+		account.email = user.getEmail();
+		account.password = user.getPassword();
+		account.firstName = user.getFirstName();
+		account.lastName = user.getLastName();
+		account.telephone = user.getTelephone();
+		account.status = Status.FREE;
+		return account;
+	}
+
+	/**
+	 * Reads the ledger, applies the change and writes it back, holding both the
+	 * in-JVM lock and the cross-fork file lock (only the in-JVM lock for an
+	 * in-memory ledger). Returns the change's result.
+	 */
+	private <T> T update(Function<List<Account>, T> change) {
+		synchronized (jvmLock) {
+			if (ledger == null) {
+				return change.apply(inMemory);
+			}
+			try {
+				Files.createDirectories(ledger.toAbsolutePath().getParent());
+				try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+					List<Account> accounts = load();
+					T result = change.apply(accounts);
+
+					// Temp file + atomic move: a crash never leaves a half-written ledger
+					Path tmp = Files.createTempFile(ledger.toAbsolutePath().getParent(), "ledger", ".tmp");
+					try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+						GSON.toJson(accounts, LEDGER_TYPE, writer);
+					}
+					Files.move(tmp, ledger, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					return result;
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Failed to update account ledger " + ledger, e);
+			}
+		}
+	}
+
+	private List<Account> load() throws IOException {
+		if (!Files.exists(ledger)) {
+			return new ArrayList<>();
+		}
+		try (Reader reader = Files.newBufferedReader(ledger, StandardCharsets.UTF_8)) {
+			List<Account> accounts = GSON.fromJson(reader, LEDGER_TYPE);
+			return accounts != null ? accounts : new ArrayList<>();
+		}
+	}
+}
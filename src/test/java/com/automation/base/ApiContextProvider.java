@@ -0,0 +1,163 @@
+package com.automation.base;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	ApiContextProvider
+ * Description:       	Shares APIRequestContexts for the whole suite
+ * 						instead of creating and disposing one per class or
+ * 						service, so keep-alive connections and TLS sessions
+ * 						are reused.
+ * Responsibilities:
+ * 1. Keying:         	One context per worker thread, Playwright
+ * 						instance, base URL, header set (headers are
+ * 						compared sorted by name) and session name.
+ * 						Contexts keep cookies, so callers that log in
+ * 						(e.g. registration) use their own session name
+ * 						and never leak a login into the default context.
+ * 2. Confinement:    	Contexts are held per thread, matching
+ * 						Playwright's threading model.
+ * 3. API-only tests: 	Tests without a browser can omit the Playwright;
+ * 						the provider then starts one per thread.
+ * 4. Disposal:       	disposeAll() (from @AfterSuite) disposes every
+ * 						context and the provider's own engines.
+ * 5. Metrics:        	Counts contexts created against contexts requested.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public final class ApiContextProvider {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApiContextProvider.class);
+
+	/** One thread's contexts, valid until the next disposeAll(). */
+	private static final class ThreadContexts {
+		private final int generation = ApiContextProvider.generation;
+		// Playwright instance -> "session|baseUrl|headers" -> context
+		private final Map<Playwright, Map<String, APIRequestContext>> contexts = new IdentityHashMap<>();
+		// Engine started by the provider for API-only tests
+		private Playwright ownPlaywright;
+	}
+
+	private static final ThreadLocal<ThreadContexts> CONTEXTS = new ThreadLocal<>();
+	// Bumped by disposeAll() so worker threads drop contexts of an earlier suite
+	private static volatile int generation;
+
+	private static final Queue<APIRequestContext> ALL_CONTEXTS = new ConcurrentLinkedQueue<>();
+	private static final Queue<Playwright> OWN_PLAYWRIGHTS = new ConcurrentLinkedQueue<>();
+
+	private static final AtomicInteger CREATED = new AtomicInteger();
+	private static final AtomicInteger REQUESTED = new AtomicInteger();
+
+	private ApiContextProvider() {
+	}
+
+	/** Shared context for an API-only test (no browser on this thread). */
+	public static APIRequestContext get(String baseUrl, Map<String, String> headers) {
+		return get(getPlaywright(), baseUrl, headers);
+	}
+
+	/**
+	 * The provider's Playwright engine for this thread, started on first use
+	 * (API-only tests) and closed by disposeAll().
+	 */
+	public static Playwright getPlaywright() {
+		ThreadContexts local = threadContexts();
+		if (local.ownPlaywright == null) {
+			local.ownPlaywright = Playwright.create();
+			OWN_PLAYWRIGHTS.add(local.ownPlaywright);
+		}
+		return local.ownPlaywright;
+	}
+
+	/**
+	 * Shared context on the given Playwright, which must belong to the calling
+	 * thread. Do not dispose it; disposeAll() does at the end of the suite.
+	 */
+	public static APIRequestContext get(Playwright playwright, String baseUrl, Map<String, String> headers) {
+		return get(playwright, baseUrl, headers, "");
+	}
+
+	/**
+	 * Like {@link #get(Playwright, String, Map)}, but with a cookie jar of its own:
+	 * contexts with different session names never share cookies.
+	 */
+	public static APIRequestContext get(Playwright playwright, String baseUrl, Map<String, String> headers,
+			String session) {
+		REQUESTED.incrementAndGet();
+		Map<String, String> sorted = headers == null ? Collections.emptyMap() : new TreeMap<>(headers);
+		String key = session + "|" + baseUrl + "|" + sorted;
+
+		return threadContexts().contexts.computeIfAbsent(playwright, engine -> new HashMap<>()).computeIfAbsent(key, ignored -> {
+			APIRequest.NewContextOptions options = new APIRequest.NewContextOptions().setBaseURL(baseUrl);
+			if (!sorted.isEmpty()) {
+				options.setExtraHTTPHeaders(sorted);
+			}
+			APIRequestContext context = playwright.request().newContext(options);
+			ALL_CONTEXTS.add(context);
+			LOGGER.debug("Created API context #{} for {} on {}", CREATED.incrementAndGet(), baseUrl,
+					Thread.currentThread().getName());
+			return context;
+		});
+	}
+
+	private static ThreadContexts threadContexts() {
+		ThreadContexts local = CONTEXTS.get();
+		if (local == null || local.generation != generation) {
+			local = new ThreadContexts();
+			CONTEXTS.set(local);
+		}
+		return local;
+	}
+
+	public static int getCreatedCount() {
+		return CREATED.get();
+	}
+
+	public static int getRequestedCount() {
+		return REQUESTED.get();
+	}
+
+	/** Disposes every context and provider-owned engine. Safe to call twice. */
+	public static synchronized void disposeAll() {
+		generation++;
+		int disposed = 0;
+		APIRequestContext context;
+		while ((context = ALL_CONTEXTS.poll()) != null) {
+			try {
+				context.dispose();
+				disposed++;
+			} catch (Exception e) {
+				// Its engine was already closed
+				LOGGER.debug("Skipping API context: {}", e.getMessage());
+			}
+		}
+		Playwright playwright;
+		while ((playwright = OWN_PLAYWRIGHTS.poll()) != null) {
+			try {
+				playwright.close();
+			} catch (Exception e) {
+				LOGGER.warn("Failed to close API Playwright engine: " + e.getMessage());
+			}
+		}
+		CONTEXTS.remove();
+		if (REQUESTED.get() > 0) {
+			LOGGER.info("API contexts: {} created for {} requests ({} reused), {} disposed", CREATED.get(),
+					REQUESTED.get(), REQUESTED.get() - CREATED.get(), disposed);
+		}
+	}
+}
@@ -0,0 +1,295 @@
+package com.automation.base;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	AssetCache
+ * Description:       	Content-addressed on-disk cache for static assets,
+ * 						shared by every context, thread and fork.
+ * Layout:
+ * - blobs/<sha256>:  	Response bodies, named by their own hash, so the
+ * 						same file served from two URLs is stored once.
+ * - urls/<sha256>:   	Per URL: status, headers, the body hash and when
+ * 						the entry stops being fresh.
+ * Freshness:         	From Cache-Control max-age, else Expires, else
+ * 						10% of the time since Last-Modified (capped). A
+ * 						stale entry with an ETag or Last-Modified is
+ * 						revalidated with a conditional request (304 keeps
+ * 						the stored body); without validators it is
+ * 						fetched again. So a deploy is picked up once the
+ * 						old assets expire.
+ * Writes go to a temp file and are moved into place, so concurrent
+ * forks never see a partial entry. Only 200 responses without
+ * no-store/no-cache/private are cached.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class AssetCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AssetCache.class);
+	private static final Gson GSON = new Gson();
+
+	/** What is stored per URL. */
+	private static final class Entry {
+		int status;
+		Map<String, String> headers;
+		String body;
+		// Epoch millis after which the entry must be revalidated
+		long freshUntil;
+	}
+
+	private final Path blobs;
+	private final Path urls;
+	private final long maxHeuristicMillis;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong revalidated = new AtomicLong();
+	private final AtomicLong bytesSaved = new AtomicLong();
+
+	/**
+	 * @param maxHeuristicMillis cap on the lifetime guessed from Last-Modified
+	 *                           for responses without max-age or Expires
+	 */
+	public AssetCache(Path directory, long maxHeuristicMillis) {
+		this.blobs = directory.resolve("blobs");
+		this.urls = directory.resolve("urls");
+		this.maxHeuristicMillis = maxHeuristicMillis;
+		try {
+			Files.createDirectories(blobs);
+			Files.createDirectories(urls);
+		} catch (IOException e) {
+			throw new RuntimeException("Cannot create asset cache in " + directory, e);
+		}
+	}
+
+	/**
+	 * Answers the request from disk while the entry is fresh, revalidates it once
+	 * stale, or fetches it from the network and stores it for every later context.
+	 */
+	public void serve(Route route) {
+		String url = route.request().url();
+		Path index = urls.resolve(sha256(url.getBytes(StandardCharsets.UTF_8)));
+
+		Entry entry = readEntry(index);
+		byte[] cached = entry != null ? readBlob(entry) : null;
+		if (cached != null && System.currentTimeMillis() < entry.freshUntil) {
+			route.fulfill(new Route.FulfillOptions().setStatus(entry.status).setHeaders(entry.headers)
+					.setBodyBytes(cached));
+			hits.incrementAndGet();
+			bytesSaved.addAndGet(cached.length);
+			return;
+		}
+
+		APIResponse response;
+		String etag = cached != null ? entry.headers.get("etag") : null;
+		String lastModified = cached != null ? entry.headers.get("last-modified") : null;
+		if (etag != null || lastModified != null) {
+			// Stale: ask the server whether our copy is still current
+			Map<String, String> conditional = new HashMap<>(route.request().headers());
+			if (etag != null) {
+				conditional.put("if-none-match", etag);
+			}
+			if (lastModified != null) {
+				conditional.put("if-modified-since", lastModified);
+			}
+			response = route.fetch(new Route.FetchOptions().setHeaders(conditional));
+			if (response.status() == 304) {
+				// Still current: keep the body, take the new freshness headers
+				entry.headers.putAll(replayableHeaders(response.headers()));
+				entry.freshUntil = freshUntil(entry.headers);
+				writeEntry(index, entry);
+				route.fulfill(new Route.FulfillOptions().setStatus(entry.status).setHeaders(entry.headers)
+						.setBodyBytes(cached));
+				revalidated.incrementAndGet();
+				bytesSaved.addAndGet(cached.length);
+				return;
+			}
+		} else {
+			response = route.fetch();
+		}
+
+		misses.incrementAndGet();
+		byte[] body = response.body();
+		Map<String, String> headers = replayableHeaders(response.headers());
+		if (isCacheable(response)) {
+			store(index, response.status(), headers, body);
+		}
+		route.fulfill(new Route.FulfillOptions().setStatus(response.status()).setHeaders(headers).setBodyBytes(body));
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/** Stale entries confirmed by the server (304) and served from disk. */
+	public long getRevalidated() {
+		return revalidated.get();
+	}
+
+	public long getBytesSaved() {
+		return bytesSaved.get();
+	}
+
+	private static boolean isCacheable(APIResponse response) {
+		String cacheControl = response.headers().getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+		return response.status() == 200 && !cacheControl.contains("no-store") && !cacheControl.contains("no-cache")
+				&& !cacheControl.contains("private");
+	}
+
+	/**
+	 * Freshness lifetime per RFC 9111: max-age (less Age), else Expires - Date,
+	 * else 10% of the time since Last-Modified, capped. Zero when unknown.
+	 */
+	private long freshUntil(Map<String, String> headers) {
+		long now = System.currentTimeMillis();
+		String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+		for (String directive : cacheControl.split(",")) {
+			String[] pair = directive.trim().split("=", 2);
+			if (pair[0].equals("max-age") && pair.length == 2) {
+				try {
+					long age = Long.parseLong(headers.getOrDefault("age", "0").trim());
+					return now + (Long.parseLong(pair[1].trim().replace("\"", "")) - age) * 1000;
+				} catch (NumberFormatException e) {
+					return now;
+				}
+			}
+		}
+		long date = httpDate(headers.get("date"), now);
+		String expires = headers.get("expires");
+		if (expires != null) {
+			return now + httpDate(expires, date) - date;
+		}
+		String lastModified = headers.get("last-modified");
+		if (lastModified != null) {
+			long heuristic = Math.max(0, date - httpDate(lastModified, date)) / 10;
+			return now + Math.min(heuristic, maxHeuristicMillis);
+		}
+		return now;
+	}
+
+	// Epoch millis of an HTTP date, or the fallback when absent or invalid
+	private static long httpDate(String value, long fallback) {
+		if (value == null) {
+			return fallback;
+		}
+		try {
+			return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (Exception e) {
+			// "Expires: 0" and similar mean already expired
+			return 0;
+		}
+	}
+
+	// The body handed to fulfill() is already decoded and sized by Playwright
+	private static Map<String, String> replayableHeaders(Map<String, String> headers) {
+		Map<String, String> copy = new HashMap<>(headers);
+		copy.remove("content-encoding");
+		copy.remove("content-length");
+		copy.remove("transfer-encoding");
+		copy.remove("set-cookie");
+		return copy;
+	}
+
+	private Entry readEntry(Path index) {
+		if (!Files.exists(index)) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+			return GSON.fromJson(reader, Entry.class);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private byte[] readBlob(Entry entry) {
+		try {
+			return entry.body != null && entry.headers != null ? Files.readAllBytes(blobs.resolve(entry.body)) : null;
+		} catch (IOException e) {
+			// Blob missing or unreadable: refetch
+			return null;
+		}
+	}
+
+	private void store(Path index, int status, Map<String, String> headers, byte[] body) {
+		try {
+			String bodyHash = sha256(body);
+			Path blob = blobs.resolve(bodyHash);
+			if (!Files.exists(blob)) {
+				Path tmp = Files.createTempFile(blobs, "blob-", ".tmp");
+				Files.write(tmp, body);
+				moveIntoPlace(tmp, blob);
+			}
+
+			Entry entry = new Entry();
+			entry.status = status;
+			entry.headers = headers;
+			entry.body = bodyHash;
+			entry.freshUntil = freshUntil(headers);
+			writeEntry(index, entry);
+		} catch (IOException e) {
+			LOGGER.warn("Failed to cache asset: " + e.getMessage());
+		}
+	}
+
+	private void writeEntry(Path index, Entry entry) {
+		try {
+			Path tmp = Files.createTempFile(urls, "url-", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				GSON.toJson(entry, writer);
+			}
+			moveIntoPlace(tmp, index);
+		} catch (IOException e) {
+			LOGGER.warn("Failed to cache asset: " + e.getMessage());
+		}
+	}
+
+	private static void moveIntoPlace(Path tmp, Path target) throws IOException {
+		try {
+			Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (FileAlreadyExistsException e) {
+			// Another fork stored the same content first
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private static String sha256(byte[] data) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.automation.base;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	AuthStateCache
+ * Description:       	Caches logged-in browser storage state
+ * 						(cookies + localStorage) on disk, one file per
+ * 						user role and site.
+ * Responsibilities:
+ * 1. Creation:       	Runs the role's login routine once and saves
+ * 						context.storageState() to <dir>/<role>@<site>.json,
+ * 						<site> being the sanitized base URL (as for the
+ * 						account ledger), so another environment or a
+ * 						fork's own local server never reuses the session.
+ * 2. Sharing:        	A file lock per role and site makes parallel
+ * 						forks wait for one login instead of each logging
+ * 						in.
+ * 3. Freshness:      	Files older than the TTL are recreated; the
+ * 						first use per JVM is checked with a probe page.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class AuthStateCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AuthStateCache.class);
+
+	/** Logs a fresh page in as the role. */
+	@FunctionalInterface
+	public interface LoginRoutine {
+		void login(Page page);
+	}
+
+	private final Path directory;
+	private final long ttlMillis;
+	private final Supplier<Browser.NewContextOptions> contextOptions;
+	private final Supplier<String> baseUrl;
+	private final Supplier<String> probeUrl;
+	private final String loginUrlMarker;
+
+	private final Map<String, Object> roleLocks = new ConcurrentHashMap<>();
+	// State files (role@site) that already passed the probe in this JVM
+	private final Set<String> probed = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param baseUrl        the site the sessions belong to (resolved on use, as
+	 *                       the base URL may be set when the suite starts)
+	 * @param probeUrl       a page that requires login (resolved on use)
+	 * @param loginUrlMarker URL fragment that means the probe was bounced to the
+	 *                       login page (i.e. the session is no longer valid)
+	 */
+	public AuthStateCache(Path directory, long ttlMillis, Supplier<Browser.NewContextOptions> contextOptions,
+			Supplier<String> baseUrl, Supplier<String> probeUrl, String loginUrlMarker) {
+		this.directory = directory;
+		this.ttlMillis = ttlMillis;
+		this.contextOptions = contextOptions;
+		this.baseUrl = baseUrl;
+		this.probeUrl = probeUrl;
+		this.loginUrlMarker = loginUrlMarker;
+	}
+
+	/**
+	 * Returns a valid storage-state file for the role, logging in with the given
+	 * routine only when no fresh, valid file exists.
+	 */
+	public Path getStorageState(Browser browser, String role, LoginRoutine loginRoutine) {
+		String key = role + "@" + baseUrl.get().replaceAll("^https?://", "").replaceAll("[^A-Za-z0-9.-]+", "_");
+		Path stateFile = directory.resolve(key + ".json");
+
+		synchronized (roleLocks.computeIfAbsent(key, k -> new Object())) {
+			long seenModified = lastModified(stateFile);
+			if (isUsable(browser, key, stateFile)) {
+				return stateFile;
+			}
+
+			try {
+				Files.createDirectories(directory);
+				// Cross-fork: one JVM logs in, the others block here and reuse its file
+				try (FileChannel channel = FileChannel.open(directory.resolve(key + ".lock"), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+					if (lastModified(stateFile) != seenModified && isUsable(browser, key, stateFile)) {
+						LOGGER.info("Reusing storage state for '{}' created by another fork", role);
+						return stateFile;
+					}
+					createState(browser, role, stateFile, loginRoutine);
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Failed to create storage state for role: " + role, e);
+			}
+			probed.add(key);
+			return stateFile;
+		}
+	}
+
+	private boolean isUsable(Browser browser, String key, Path stateFile) {
+		long modified = lastModified(stateFile);
+		if (modified == 0 || System.currentTimeMillis() - modified > ttlMillis) {
+			return false;
+		}
+		if (probed.contains(key)) {
+			return true;
+		}
+		if (probe(browser, stateFile)) {
+			probed.add(key);
+			return true;
+		}
+		LOGGER.info("Cached storage state for '{}' failed the validity probe", key);
+		return false;
+	}
+
+	private boolean probe(Browser browser, Path stateFile) {
+		BrowserContext context = browser.newContext(contextOptions.get().setStorageStatePath(stateFile));
+		try {
+			Page page = context.newPage();
+			page.navigate(probeUrl.get());
+			return !page.url().contains(loginUrlMarker);
+		} catch (Exception e) {
+			LOGGER.warn("Storage state probe failed: " + e.getMessage());
+			return false;
+		} finally {
+			context.close();
+		}
+	}
+
+	private void createState(Browser browser, String role, Path stateFile, LoginRoutine loginRoutine)
+			throws IOException {
+		LOGGER.info("Logging in as '{}' to create cached storage state...", role);
+		long start = System.currentTimeMillis();
+
+		BrowserContext context = browser.newContext(contextOptions.get());
+		try {
+			loginRoutine.login(context.newPage());
+
+			// Write to a temp file first so other forks never read a half-written state
+			Path tmp = Files.createTempFile(directory, role, ".tmp");
+			context.storageState(new BrowserContext.StorageStateOptions().setPath(tmp));
+			Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			context.close();
+		}
+		LOGGER.info("Storage state for '{}' saved to {} in {}ms", role, stateFile.toAbsolutePath(),
+				System.currentTimeMillis() - start);
+	}
+
+	private static long lastModified(Path file) {
+		try {
+			return Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() : 0;
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.automation.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Starts a test method (or every test in a class) already logged in as the
+ * given role. BaseTest loads the role's cached storage state instead of
+ * logging in through the UI; see {@link AuthStateCache}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface AuthenticatedAs {
+	/** Role name, e.g. "customer". Also the name of the cached state file. */
+	String value();
+}
@@ -0,0 +1,40 @@
+package com.automation.base;
+
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+import org.testng.annotations.AfterSuite;
+
+import java.util.Map;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	BaseApiTest
+ * Description:       	Parent class for API-only tests (no browser).
+ * Responsibilities:
+ * 1. Contexts:       	Hands out request contexts shared per worker
+ * 						thread through ApiContextProvider.
+ * 2. Teardown:       	Disposes them once, at the end of the suite.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class BaseApiTest {
+
+	/**
+	 * Request context for the base URL and headers on this worker thread. Fetch it
+	 * inside the test method (contexts are thread-confined) and do not dispose it.
+	 */
+	protected APIRequestContext apiContext(String baseUrl, Map<String, String> headers) {
+		return ApiContextProvider.get(baseUrl, headers);
+	}
+
+	/** This worker thread's Playwright engine (no browser is launched). */
+	protected Playwright getPlaywright() {
+		return ApiContextProvider.getPlaywright();
+	}
+
+	@AfterSuite(alwaysRun = true)
+	public void disposeApiContexts() {
+		ApiContextProvider.disposeAll();
+	}
+}
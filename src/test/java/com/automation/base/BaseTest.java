@@ -1,7 +1,16 @@
 package com.automation.base;
 
 import com.microsoft.playwright.*;
+import com.microsoft.playwright.options.HarContentPolicy;
+import com.microsoft.playwright.options.HarNotFound;
 import com.automation.utils.ConfigReader; // Import our ConfigReader
+import com.automation.utils.AttachmentUtil;
+import com.automation.utils.StepTimingListener;
+import com.automation.utils.APIService;
+import com.automation.utils.TestDataFactory;
+import com.automation.models.User;
+import com.automation.pages.HomePage;
+import com.automation.pages.LoginPage;
 import org.testng.annotations.*;
 
 // Add slf4j logger imports
@@ -11,15 +20,23 @@ import org.slf4j.LoggerFactory;
 // For trace viewer
 import com.microsoft.playwright.Tracing;
 
-import io.qameta.allure.Allure;
-import java.io.ByteArrayInputStream;
-
+import org.testng.ITestContext;
 import org.testng.ITestResult;
+import org.testng.Reporter;
 import java.nio.file.Paths;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+// Per-thread lifecycle, pools and annotations
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 //For cloud support
 import java.net.URLEncoder;
 import java.util.HashMap;
@@ -32,64 +49,234 @@ import com.deque.html.axecore.results.AxeResults;
 
 //import org.testng.Assert;
 
-// Allure reporting imports
-import java.nio.file.Files;
-
-
 
 /**
  * ------------------------------------------------------------------ Class
  * Name: BaseTest Description: The foundational class for all UI tests. It
  * manages the lifecycle of the Playwright objects (Browser, Context, Page)
- * using TestNG annotations. Responsibilities: 1. Suite Setup: Initializes
- * Playwright and the Browser (driven by config) 2. Test Setup: Creates a fresh
- * BrowserContext and Page for every @Test 3. Teardown: Closes resources after
- * tests/suite execution. * Configuration: Reads 'browser' and 'headless'
- * settings * from config.properties Author: [Your Name] Date: [Current Date]
+ * using TestNG annotations. Responsibilities: 1. Worker Setup: Initializes
+ * one Playwright and Browser per worker thread (driven by config) 2. Test
+ * Setup: Creates a fresh BrowserContext and Page for every @Test 3. Teardown:
+ * Closes resources after tests/suite execution. * Configuration: Reads
+ * 'browser' and 'headless' settings * from config.properties. Parallelism is
+ * configured by ParallelSuiteListener. Author: [Your Name] Date: [Current Date]
  * -------------------------------------------------------------------
  */
 
 public class BaseTest {
-	// Suite-Level Objects (Static: shared once per run)
-	protected static Playwright playwright;
-	protected static Browser browser;
-
-	// Test-Level Objects (Non-Static: fresh instance for every test)
-	protected BrowserContext context;
-	protected Page page;
+	// Worker-Level Objects (ThreadLocal: one Playwright + Browser per worker
+	// thread). Playwright objects are not thread-safe, so every TestNG worker
+	// drives its own engine and browser process.
+	private static final ThreadLocal<Playwright> PLAYWRIGHT = new ThreadLocal<>();
+	private static final ThreadLocal<Browser> BROWSER = new ThreadLocal<>();
+
+	// Every open engine and the <test> whose thread created it. TestNG starts
+	// new worker (and data-provider) threads for each <test>, so their engines
+	// are closed when that <test> ends rather than at suite end.
+	private static final Map<Playwright, String> ALL_PLAYWRIGHTS = new ConcurrentHashMap<>();
+
+	// Test-Level Objects (ThreadLocal: fresh instance for every test, visible
+	// only to the worker thread running that test)
+	private static final ThreadLocal<BrowserContext> CONTEXT = new ThreadLocal<>();
+	private static final ThreadLocal<Page> PAGE = new ThreadLocal<>();
+
+	// Optional pool of pre-launched browsers (enabled when browserPoolSize > 0).
+	// When active, each test leases a browser instead of using the worker's own.
+	private static volatile BrowserPool browserPool;
+	private static final ThreadLocal<BrowserPool.PooledBrowser> LEASE = new ThreadLocal<>();
+
+	// Optional queue of pre-warmed contexts on top of the browser pool (enabled
+	// when contextPoolSize > 0). Takes context creation off @BeforeMethod.
+	private static volatile ContextPool contextPool;
+	private static final ThreadLocal<ContextPool.WarmContext> WARM_CONTEXT = new ThreadLocal<>();
+
+	// Tracing policy (off | on-first-retry | retain-on-failure | always) and
+	// whether the test on this thread is currently recording a trace chunk
+	private static final TraceMode TRACE_MODE = TraceMode
+			.fromConfig(ConfigReader.getProperty("tracing", "retain-on-failure"));
+	private static final ThreadLocal<Boolean> TRACE_RECORDING = new ThreadLocal<>();
+
+	// Logged-in sessions per role and base URL (see @AuthenticatedAs), shared on
+	// disk across tests and forks. A state is valid while the account page does not bounce
+	// to the login route.
+	private static final AuthStateCache AUTH_STATE = new AuthStateCache(
+			Paths.get(ConfigReader.getProperty("authStateDir", "auth-state")),
+			TimeUnit.MINUTES.toMillis(Long.parseLong(ConfigReader.getProperty("authStateTtlMinutes", "30"))),
+			BaseTest::newContextOptions,
+			() -> ConfigReader.getProperty("baseUrl"),
+			() -> ConfigReader.getProperty("baseUrl")
+					+ ConfigReader.getProperty("authProbePath", "index.php?route=account/account"),
+			"route=account/login");
+
+	// Network source for UI tests (live | record | replay). Recordings are one
+	// HAR per test class; see HarArchive.
+	private static final NetworkMode NETWORK_MODE = NetworkMode
+			.fromConfig(ConfigReader.getProperty("network", "live"));
+	private static final HarArchive HAR_ARCHIVE = new HarArchive(
+			Paths.get(ConfigReader.getProperty("harDir", "src/test/resources/har")),
+			HarNotFound.valueOf(ConfigReader.getProperty("harNotFound", "abort").trim().toUpperCase()));
+	private static final ThreadLocal<java.nio.file.Path> HAR_RECORDING = new ThreadLocal<>();
+
+	// Blocks resources per route profile and, on live runs, serves static
+	// assets from a disk cache shared by all contexts and forks
+	private static final RouteLayer ROUTE_LAYER = new RouteLayer(
+			NETWORK_MODE == NetworkMode.LIVE && Boolean.parseBoolean(ConfigReader.getProperty("assetCache", "false"))
+					? new AssetCache(Paths.get(ConfigReader.getProperty("assetCacheDir", "asset-cache")),
+							TimeUnit.MINUTES.toMillis(Long.parseLong(ConfigReader.getProperty("assetCacheHeuristicMaxMinutes", "60"))))
+					: null);
+
+	// Distinguishes artifacts of rows/tests failing on one thread in the same second
+	private static final AtomicInteger ARTIFACT_SEQUENCE = new AtomicInteger();
+
+	// Reusable registered accounts, one ledger per site (created on first use,
+	// after the base URL is final)
+	private static AccountPool accountPool;
+
+	// Embedded OpenCart stand-in (localServer=true); baseUrl points at it
+	private static LocalOpenCartServer localServer;
 
 	// ADD THIS LINE to create a logger instance for this class.
 	private static final Logger LOGGER = LoggerFactory.getLogger(BaseTest.class);
 
 	/**
-	 * Suite Setup Runs once before any tests in this suite. - Initializes the
-	 * Playwright engine. - Reads the 'browser' property from config.properties. -
-	 * Launches the appropriate browser (Chromium, Firefox, WebKit).
+	 * Suite Setup Runs once before any tests in this suite. Browsers are launched
+	 * lazily per worker thread (see {@link #getBrowser()}), so this only logs the
+	 * effective execution model.
 	 */
 	@BeforeSuite
-	public void startPlaywrightAndBrowser() {
+	public void logExecutionModel() {
+		LOGGER.info("Suite will run with parallel mode '{}' on {} worker thread(s)",
+				ConfigReader.getProperty("parallelMode", "none"), ConfigReader.getProperty("workerThreads", "1"));
+		LOGGER.info("Tracing mode: {}", TRACE_MODE);
+		LOGGER.info("Network mode: {}", NETWORK_MODE);
+		if (Boolean.parseBoolean(ConfigReader.getProperty("localServer", "false")) && localServer == null) {
+			localServer = new LocalOpenCartServer(Integer.parseInt(ConfigReader.getProperty("localServerPort", "0")),
+					Integer.parseInt(ConfigReader.getProperty("localServerThreads", "16")));
+			System.setProperty("baseUrl", localServer.getBaseUrl());
+			LOGGER.info("Using local OpenCart stand-in at {}", localServer.getBaseUrl());
+		}
+		if (TRACE_MODE == TraceMode.ON_FIRST_RETRY && "0".equals(ConfigReader.getProperty("maxRetries", "0"))) {
+			LOGGER.warn("tracing=on-first-retry has no effect while maxRetries=0");
+		}
 
-		LOGGER.info("Setting up the Playwright and Browser for the suite...");
+		int poolSize = Integer.parseInt(ConfigReader.getProperty("browserPoolSize", "0"));
+		String browserName = resolveBrowserName();
+		if (poolSize > 0 && browserName.equalsIgnoreCase("cloud")) {
+			LOGGER.warn("Browser pool is not supported for cloud execution. Using per-worker browsers.");
+		} else if (poolSize > 0) {
+			browserPool = new BrowserPool(poolBrowserTypes(poolSize, browserName),
+					Boolean.parseBoolean(ConfigReader.getProperty("headless")));
+		}
 
-		playwright = Playwright.create();
+		int contextPoolSize = Integer.parseInt(ConfigReader.getProperty("contextPoolSize", "0"));
+		if (contextPoolSize > 0 && browserPool == null) {
+			LOGGER.warn("contextPoolSize requires browserPoolSize > 0. Contexts will be created per test.");
+		} else if (contextPoolSize > 0) {
+			int threads = Integer.parseInt(ConfigReader.getProperty("workerThreads", "1"));
+			if (contextPoolSize > poolSize - threads) {
+				LOGGER.warn("contextPoolSize={} leaves fewer than workerThreads={} of browserPoolSize={} browsers for "
+						+ "direct leases; idle warm contexts will be closed when tests need a browser.",
+						contextPoolSize, threads, poolSize);
+			}
+			contextPool = new ContextPool(browserPool, browserName, BaseTest::newContextOptions, contextPoolSize,
+					Boolean.parseBoolean(ConfigReader.getProperty("contextPoolRecycle", "false")));
+		}
+	}
 
-		// 1. Try to get browser from Command Line (Maven -Dbrowser=...)
-		String browserName = System.getProperty("browser");
+	/**
+	 * Options for every test context. We can add the viewport size here to
+	 * ensure the responsive page loads correctly.
+	 */
+	protected static Browser.NewContextOptions newContextOptions() {
+		return new Browser.NewContextOptions().setViewportSize(1920, 1080);
+	}
 
-		// 1. DETERMINE BROWSER (Priority: CLI -> Config -> Default)
-		if (browserName == null) {
-			// 2. If null, fallback to Config File
-			browserName = ConfigReader.getProperty("browser");
-			System.out.println("Using Config File to determine browser");
+	/**
+	 * Browser type this test class runs on. Defaults to the configured browser;
+	 * override to run a class against another type held in a mixed pool.
+	 */
+	protected String browserType() {
+		return resolveBrowserName();
+	}
+
+	/**
+	 * Route profile for this test class (see RouteLayer), e.g. "functional" to
+	 * block images and analytics. Override for classes that need everything,
+	 * such as visual checks.
+	 */
+	protected String routeProfile() {
+		return ConfigReader.getProperty("routeProfile", "none");
+	}
+
+	/**
+	 * Returns the Playwright engine owned by the current worker thread, creating
+	 * it on first use (or again when the thread's earlier <test> closed it).
+	 */
+	protected Playwright getPlaywright() {
+		Playwright playwright = PLAYWRIGHT.get();
+		if (playwright == null || !ALL_PLAYWRIGHTS.containsKey(playwright)) {
+			LOGGER.info("Creating Playwright engine for worker thread: {}", Thread.currentThread().getName());
+			playwright = Playwright.create();
+			PLAYWRIGHT.set(playwright);
+			// The old browser (if any) died with the old engine
+			BROWSER.remove();
+			ALL_PLAYWRIGHTS.put(playwright, currentTestName());
 		}
+		return playwright;
+	}
 
-		// 3. If still null, default to Chromium (Safety net)
-		if (browserName == null) {
-			browserName = "chromium";
-			System.out.println("Unable to determine browser");
+	/** Name of the <test> running on this thread ("" outside of one). */
+	private static String currentTestName() {
+		ITestResult current = Reporter.getCurrentTestResult();
+		return current == null || current.getTestContext() == null ? "" : current.getTestContext().getName();
+	}
+
+	/**
+	 * Returns the Browser owned by the current worker thread, launching it on
+	 * first use.
+	 */
+	protected Browser getBrowser() {
+		if (browserPool != null) {
+			BrowserPool.PooledBrowser lease = LEASE.get();
+			if (lease == null) {
+				long timeoutMs = Long.parseLong(ConfigReader.getProperty("browserPoolLeaseTimeoutMs", "60000"));
+				lease = browserPool.lease(browserType(), timeoutMs);
+				LEASE.set(lease);
+			}
+			return lease.getBrowser();
 		}
 
+		Playwright playwright = getPlaywright();
+		Browser browser = BROWSER.get();
+		if (browser == null) {
+			browser = startPlaywrightAndBrowser(playwright);
+			BROWSER.set(browser);
+		}
+		return browser;
+	}
+
+	/** Returns the BrowserContext created for the test running on this thread. */
+	protected BrowserContext getContext() {
+		return CONTEXT.get();
+	}
+
+	/** Returns the Page created for the test running on this thread. */
+	protected Page getPage() {
+		return PAGE.get();
+	}
+
+	/**
+	 * Worker Setup Runs once per worker thread. - Reads the 'browser' property
+	 * from config.properties. - Launches the appropriate browser (Chromium,
+	 * Firefox, WebKit) on the given engine.
+	 */
+	private Browser startPlaywrightAndBrowser(Playwright playwright) {
+
+		LOGGER.info("Setting up the Browser for worker thread: {}", Thread.currentThread().getName());
+
+		String browserName = browserType();
 		boolean isHeadless = Boolean.parseBoolean(ConfigReader.getProperty("headless"));
+		Browser browser;
 
 		if (browserName.equalsIgnoreCase("cloud")) {
 			// --- PATH 1: CLOUD EXECUTION ---
@@ -143,24 +330,48 @@ public class BaseTest {
 			// --- LOCAL EXECUTION PATH ---
 			LOGGER.info("Launching Local Browser: {}", browserName);
 
-			switch (browserName.toLowerCase()) {
-			case "chromium":
-				browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(isHeadless));
-				break;
-			case "firefox":
-				browser = playwright.firefox().launch(new BrowserType.LaunchOptions().setHeadless(isHeadless));
-				break;
-			case "webkit":
-				browser = playwright.webkit().launch(new BrowserType.LaunchOptions().setHeadless(isHeadless));
-				break;
-			default:
-				throw new IllegalArgumentException("Please provide a valid browser name in config.properties.");
-			}
+			browser = BrowserPool.launchLocalBrowser(playwright, browserName, isHeadless);
 
 			// Update the browser launch log
 			LOGGER.info("Launching Broswer: {} (Headless: {})", browserName, isHeadless);
 		}
 
+		return browser;
+	}
+
+	/**
+	 * Determines the browser name. Priority: CLI (-Dbrowser=...) -> Config ->
+	 * Default (Chromium).
+	 */
+	private static String resolveBrowserName() {
+		// 1. Try to get browser from Command Line (Maven -Dbrowser=...)
+		String browserName = System.getProperty("browser");
+
+		if (browserName == null) {
+			// 2. If null, fallback to Config File
+			browserName = ConfigReader.getProperty("browser");
+		}
+
+		// 3. If still null, default to Chromium (Safety net)
+		if (browserName == null) {
+			browserName = "chromium";
+			LOGGER.warn("Unable to determine browser, defaulting to chromium");
+		}
+		return browserName;
+	}
+
+	/**
+	 * Expands 'browserPoolTypes' (e.g. chromium,firefox) round-robin to the pool
+	 * size. Falls back to the configured browser when no types are given.
+	 */
+	private static List<String> poolBrowserTypes(int poolSize, String defaultType) {
+		String configured = ConfigReader.getProperty("browserPoolTypes", "").trim();
+		String[] types = configured.isEmpty() ? new String[] { defaultType } : configured.split(",");
+		List<String> expanded = new ArrayList<>();
+		for (int i = 0; i < poolSize; i++) {
+			expanded.add(types[i % types.length].trim());
+		}
+		return expanded;
 	}
 
 	/**
@@ -169,16 +380,179 @@ public class BaseTest {
 	 * test.
 	 */
 	@BeforeMethod
-	public void createContextAndPage() {
+	public void createContextAndPage(Method method, Object[] parameters) {
 		LOGGER.info("Setting up context for the method...");
-		// We can add the viewport size here to ensure the responsive page loads
-		// correctly
-		context = browser.newContext(new Browser.NewContextOptions().setViewportSize(1920, 1080));
-		// Start tracing
-		LOGGER.info("Starting Trace recording...");
-		context.tracing().start(new Tracing.StartOptions().setScreenshots(true).setSnapshots(true).setSources(true));
-
-		page = context.newPage();
+		int retryAttempt = RetryAnalyzer.consumeRetryAttempt();
+		// Same run seed + test + data-provider row + retry = same Faker data (see
+		// dataSeed), whichever thread or order the rows run in
+		TestDataFactory.reseed(getClass().getName() + "#" + method.getName(), rowKey(parameters), retryAttempt);
+		BrowserContext context;
+		Page page = null;
+		ContextPool.WarmContext warm = null;
+		String role = authenticatedRole(method);
+		Browser.NewContextOptions options = newContextOptions();
+
+		if (NETWORK_MODE == NetworkMode.RECORD) {
+			// HAR recording is a context creation option, so recorded tests never
+			// use warm contexts. The recording is merged into the class HAR on close.
+			java.nio.file.Path recording = HAR_ARCHIVE.newRecording(getClass());
+			options.setRecordHarPath(recording).setRecordHarContent(HarContentPolicy.EMBED);
+			HAR_RECORDING.set(recording);
+		}
+
+		if (role != null) {
+			// Logged-in tests start from the role's cached session (and skip the
+			// warm context pool, whose contexts are anonymous)
+			java.nio.file.Path statePath = AUTH_STATE.getStorageState(getBrowser(), role,
+					loginPage -> loginAs(role, loginPage));
+			context = getBrowser().newContext(options.setStorageStatePath(statePath));
+		} else if (contextPool != null && NETWORK_MODE != NetworkMode.RECORD
+				&& contextPool.getBrowserType().equalsIgnoreCase(browserType())) {
+			// Pre-warmed: the context already lives on a leased browser
+			long timeoutMs = Long.parseLong(ConfigReader.getProperty("browserPoolLeaseTimeoutMs", "60000"));
+			warm = contextPool.take(timeoutMs);
+			WARM_CONTEXT.set(warm);
+			LEASE.set(warm.getLease());
+			context = warm.getContext();
+			page = warm.getPage();
+		} else {
+			context = getBrowser().newContext(options);
+		}
+
+		if (NETWORK_MODE == NetworkMode.REPLAY) {
+			// Offline: every request is answered from this class's HAR
+			HAR_ARCHIVE.replay(context, getClass());
+		}
+		// Registered last so it sees requests first; anything it does not
+		// block or cache falls back to the HAR replay / network
+		ROUTE_LAYER.install(context, routeProfile());
+
+		// Start tracing (only when the tracing mode wants this attempt recorded)
+		if (TRACE_MODE.shouldRecord(retryAttempt)) {
+			LOGGER.info("Starting Trace recording ({})...", TRACE_MODE);
+			startTraceChunk(context, warm, method.getName());
+		}
+
+		CONTEXT.set(context);
+		PAGE.set(page != null ? page : context.newPage());
+	}
+
+	/**
+	 * Records the test as its own trace chunk. The tracing session is started
+	 * once per context, so a recycled context keeps a single session across
+	 * tests instead of paying start() every time.
+	 */
+	private void startTraceChunk(BrowserContext context, ContextPool.WarmContext warm, String title) {
+		if (warm == null || !warm.isTracingStarted()) {
+			context.tracing().start(new Tracing.StartOptions()
+					.setScreenshots(Boolean.parseBoolean(ConfigReader.getProperty("traceScreenshots", "true")))
+					.setSnapshots(Boolean.parseBoolean(ConfigReader.getProperty("traceSnapshots", "true")))
+					.setSources(Boolean.parseBoolean(ConfigReader.getProperty("traceSources", "true"))));
+			if (warm != null) {
+				warm.markTracingStarted();
+			}
+		}
+		context.tracing().startChunk(new Tracing.StartChunkOptions().setTitle(title));
+		TRACE_RECORDING.set(true);
+	}
+
+	/**
+	 * Builds a unique artifact file name such as traces/myTest_20250101_120000_17_3.zip.
+	 * The thread id and a sequence number keep parallel failures of the same
+	 * method, including data-provider rows, from overwriting each other.
+	 */
+	private static java.nio.file.Path artifactPath(String directory, ITestResult result, String extension) {
+		File dir = new File(directory);
+		if (!dir.exists()) {
+			dir.mkdirs();
+		}
+		String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+		return Paths.get(directory, result.getName() + "_" + timestamp + "_" + Thread.currentThread().getId() + "_"
+				+ ARTIFACT_SEQUENCE.incrementAndGet() + extension);
+	}
+
+	/**
+	 * Identifies the data-provider row from its values (0 without parameters).
+	 * Uses their toString(), so row objects need a stable one (String, numbers
+	 * and the models do); identical rows share their data.
+	 */
+	private static int rowKey(Object[] parameters) {
+		return parameters == null || parameters.length == 0 ? 0 : Arrays.deepToString(parameters).hashCode();
+	}
+
+	/**
+	 * Request context for the base URL and headers, shared by every test on this
+	 * worker for the whole suite (see {@link ApiContextProvider}). Do not dispose
+	 * it.
+	 */
+	protected APIRequestContext apiContext(String baseUrl, Map<String, String> headers) {
+		return ApiContextProvider.get(getPlaywright(), baseUrl, headers);
+	}
+
+	/**
+	 * Pool of registered test accounts for the current base URL (kept in memory
+	 * when the local stand-in server is running). Lease one with
+	 * {@code try (AccountPool.Lease lease = accountPool().lease(getPlaywright()))}
+	 * instead of registering a new account per test.
+	 */
+	protected static synchronized AccountPool accountPool() {
+		if (accountPool == null) {
+			String site = ConfigReader.getProperty("baseUrl").replaceAll("^https?://", "").replaceAll("[^A-Za-z0-9.-]+", "_");
+			// The local stand-in forgets its customers when it stops, so its
+			// accounts live only as long as this JVM
+			accountPool = new AccountPool(localServer != null ? null
+					: Paths.get(ConfigReader.getProperty("accountPoolDir", "account-pool"), site + ".json"),
+					APIService::new, Integer.parseInt(ConfigReader.getProperty("accountPoolBatch", "5")),
+					Integer.parseInt(ConfigReader.getProperty("accountMaxUses", "0")),
+					TimeUnit.MINUTES.toMillis(Long.parseLong(ConfigReader.getProperty("accountLeaseTimeoutMinutes", "30"))),
+					null);
+		}
+		return accountPool;
+	}
+
+	/**
+	 * Role requested via @AuthenticatedAs on the test method or its class, or
+	 * null for an anonymous test.
+	 */
+	private String authenticatedRole(Method method) {
+		AuthenticatedAs annotation = method.getAnnotation(AuthenticatedAs.class);
+		if (annotation == null) {
+			annotation = getClass().getAnnotation(AuthenticatedAs.class);
+		}
+		return annotation == null ? null : annotation.value();
+	}
+
+	/**
+	 * Logs the page in as the given role. Only runs when the storage-state cache
+	 * has no valid session for the role. Uses 'auth.<role>.email' and
+	 * 'auth.<role>.password' when configured, otherwise registers a fresh user
+	 * via the API. Override for roles with a different login flow.
+	 */
+	protected void loginAs(String role, Page page) {
+		String email = ConfigReader.getProperty("auth." + role + ".email", "");
+		String password = ConfigReader.getProperty("auth." + role + ".password", "");
+
+		if (email.isEmpty() || password.isEmpty()) {
+			User user = TestDataFactory.createUser();
+			try (APIService apiService = new APIService(getPlaywright())) {
+				apiService.registerUser(user);
+			}
+			email = user.getEmail();
+			password = user.getPassword();
+		}
+
+		HomePage home = new HomePage(page);
+		home.navigate();
+		LoginPage loginPage = home.navigateToLoginPage();
+		loginPage.login(email, password);
+		loginPage.verifyLoginSuccess();
+	}
+
+	/** Full-page screenshots are opt-in per test method or class. */
+	private static boolean wantsFullPageScreenshot(ITestResult result) {
+		Method method = result.getMethod().getConstructorOrMethod().getMethod();
+		return method.isAnnotationPresent(FullPageScreenshot.class)
+				|| result.getTestClass().getRealClass().isAnnotationPresent(FullPageScreenshot.class);
 	}
 
 	/**
@@ -187,45 +561,50 @@ public class BaseTest {
 	 */
 	@AfterMethod
 	public void closeContext(ITestResult result) {
+	    BrowserContext context = getContext();
+	    Page page = getPage();
 	    
-	    // 1. IF FAILURE: Attach Screenshot and Trace to Allure
+	    boolean traceRecording = Boolean.TRUE.equals(TRACE_RECORDING.get());
+	    TRACE_RECORDING.remove();
+	    
+	    // 1. IF FAILURE: Capture Screenshot now (the page must still be open), then
+	    // write it to disk and stream it to Allure in the background
+	    // (full-page only for tests annotated with @FullPageScreenshot)
 	    if (!result.isSuccess()) {
-	        // A. Capture Screenshot
 	        try {
-	            byte[] screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
-	            Allure.addAttachment("Failure Screenshot", new ByteArrayInputStream(screenshot));
+	            byte[] screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(wantsFullPageScreenshot(result)));
+	            AttachmentUtil.attachBytesAsync("Failure Screenshot", "image/png", screenshot,
+	                    artifactPath("screenshots", result, ".png"), ".png");
 	        } catch (Exception e) {
 	            LOGGER.warn("Failed to capture screenshot for Allure: " + e.getMessage());
 	        }
+	    }
 	        
-	        // B. Capture Playwright Trace
+	    // 2. Playwright Trace: keep the chunk if the tracing mode says so, else discard it
+	    if (traceRecording && TRACE_MODE.shouldKeep(result.isSuccess())) {
 	        try {
-	            File tracesDir = new File("traces");
-	            if (!tracesDir.exists()) {
-	                tracesDir.mkdirs();
-	            }
-	            
-	            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-	            java.nio.file.Path tracePath = Paths.get("traces/" + result.getName() + "_" + timestamp + ".zip");
+	            java.nio.file.Path tracePath = artifactPath("traces", result, ".zip");
 	            
-	            // Stop tracing and save to file
-	            context.tracing().stop(new Tracing.StopOptions().setPath(tracePath));
+	            // Stop this test's chunk and save to file
+	            context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(tracePath));
 	            LOGGER.info("Trace saved to: {}", tracePath.toAbsolutePath());
 	            
-	            // Attach Trace to Allure Report
-	            if (Files.exists(tracePath)) {
-	                Allure.addAttachment("Playwright Trace", "application/zip",
-	                    new ByteArrayInputStream(Files.readAllBytes(tracePath)), ".zip");
-	            }
+	            // Attach Trace to Allure Report in the background (streamed from disk,
+	            // linked if over the size cap) so the next test can start
+	            AttachmentUtil.attachFileAsync("Playwright Trace", "application/zip", tracePath, ".zip");
 	        } catch (Exception e) {
 	            LOGGER.warn("Failed to save or attach Playwright Trace", e);
 	        }
-	    } else {
-	        // If test passed, just stop tracing without saving to free up memory
-	        context.tracing().stop();
+	    } else if (traceRecording) {
+	        // Not kept: stop the chunk without saving to free up memory
+	        try {
+	            context.tracing().stopChunk();
+	        } catch (Exception e) {
+	            LOGGER.warn("Failed to stop tracing: " + e.getMessage());
+	        }
 	    }
 
-	    // 2. Cloud Status Update Logic (Runs for BOTH Pass and Fail)
+	    // 3. Cloud Status Update Logic (Runs for BOTH Pass and Fail)
 	    // We check System Property first to ensure Jenkins/CLI overrides work
 	    String browserName = System.getProperty("browser");
 	    if (browserName == null) {
@@ -271,23 +650,111 @@ public class BaseTest {
 	        }
 	    }
 
-	    // 3. Cleanup
-	    if (context != null) {
-	        LOGGER.info("Closing context for the method...");
-	        context.close();
+	    // 4. Cleanup
+	    ContextPool.WarmContext warm = WARM_CONTEXT.get();
+	    if (warm != null) {
+	        // Pooled: recycle or close the context and return its browser lease
+	        WARM_CONTEXT.remove();
+	        CONTEXT.remove();
+	        PAGE.remove();
+	        LEASE.remove();
+	        contextPool.giveBack(warm);
+	        return;
+	    }
+	    try {
+	        if (context != null) {
+	            LOGGER.info("Closing context for the method...");
+	            context.close();
+	        }
+	    } catch (Exception e) {
+	        // A crashed browser must not fail teardown and skip the rest of the class
+	        LOGGER.warn("Failed to close context: " + e.getMessage());
+	    } finally {
+	        CONTEXT.remove();
+	        PAGE.remove();
+
+	        // Playwright writes the HAR on close; fold it into the class HAR
+	        java.nio.file.Path recording = HAR_RECORDING.get();
+	        if (recording != null) {
+	            HAR_RECORDING.remove();
+	            HAR_ARCHIVE.merge(getClass(), recording);
+	        }
+
+	        // 5. Return the leased browser (health-checked by the pool)
+	        if (browserPool != null) {
+	            browserPool.release(LEASE.get());
+	            LEASE.remove();
+	        }
 	    }
 	}
 	
 
+	/**
+	 * Closes the engines (and their browsers) created by worker threads of the
+	 * <test> that just finished. Its thread pool is gone, so they would otherwise
+	 * stay open until the suite ends.
+	 */
+	@AfterTest(alwaysRun = true)
+	public void closeTestEngines(ITestContext context) {
+		int closed = 0;
+		for (Map.Entry<Playwright, String> engine : ALL_PLAYWRIGHTS.entrySet()) {
+			if (engine.getValue().equals(context.getName()) && ALL_PLAYWRIGHTS.remove(engine.getKey()) != null) {
+				closeQuietly(engine.getKey());
+				closed++;
+			}
+		}
+		if (closed > 0) {
+			LOGGER.info("Closed {} Playwright engine(s) of <test> '{}'", closed, context.getName());
+		}
+	}
+
+	private static void closeQuietly(Playwright playwright) {
+		try {
+			playwright.close();
+		} catch (Exception e) {
+			LOGGER.warn("Failed to close Playwright engine: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Suite Teardown Runs once after all tests in the suite are complete. Closes
 	 * the Playwright engine and browser process to clean up resources.
 	 */
 	@AfterSuite
 	public void stopPlaywright() {
-		if (playwright != null) {
-			LOGGER.info("Tearing down the Playwright and Browser for the suite...");
-			playwright.close();
+		// Per-step p50/p95/p99 for the run (JSON file + Allure attachment)
+		StepTimingListener.writeReport();
+
+		// Flush barrier: make sure every queued screenshot/trace reached allure-results
+		AttachmentUtil.flush(Long.parseLong(ConfigReader.getProperty("artifactFlushTimeoutMs", "120000")));
+
+		LOGGER.info(ROUTE_LAYER.getStatsSummary());
+
+		// Shared API contexts go before the engines that own them
+		ApiContextProvider.disposeAll();
+
+		if (contextPool != null) {
+			contextPool.close();
+			contextPool = null;
+		}
+		if (browserPool != null) {
+			browserPool.close();
+			browserPool = null;
+		}
+		if (!ALL_PLAYWRIGHTS.isEmpty()) {
+			LOGGER.info("Tearing down {} Playwright engine(s) and Browser(s) for the suite...", ALL_PLAYWRIGHTS.size());
+		}
+		for (Playwright playwright : ALL_PLAYWRIGHTS.keySet()) {
+			if (ALL_PLAYWRIGHTS.remove(playwright) != null) {
+				closeQuietly(playwright);
+			}
+		}
+		PLAYWRIGHT.remove();
+		BROWSER.remove();
+
+		if (localServer != null) {
+			localServer.close();
+			localServer = null;
 		}
 	}
 
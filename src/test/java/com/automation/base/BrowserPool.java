@@ -0,0 +1,335 @@
+package com.automation.base;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	BrowserPool
+ * Description:       	Keeps a set of pre-launched browsers (optionally
+ * 						of mixed types) that tests lease and return.
+ * Responsibilities:
+ * 1. Warm-up:        	Launches every browser in the background when
+ * 						the pool is created.
+ * 2. Leasing:        	Hands out one browser exclusively per lease.
+ * 						Tests block in lease(); background users take
+ * 						only idle browsers with tryLease() and can see
+ * 						how many tests are waiting.
+ * 3. Health:         	Checks isConnected() on lease and return, and
+ * 						relaunches crashed browsers in the background.
+ * 4. Launch failure: 	A failed launch is retried with backoff. When a
+ * 						type has no browser left (leased, idle or being
+ * 						launched), lease() fails at once with the last
+ * 						launch error instead of waiting out its timeout.
+ * Threading:         	Each pooled browser owns its own Playwright
+ * 						engine, so the lessee is the only thread that
+ * 						touches it until it is returned.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class BrowserPool implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BrowserPool.class);
+
+	private static final int LAUNCH_ATTEMPTS = 3;
+	private static final long LAUNCH_BACKOFF_MS = 1000;
+	// How often a waiting lease() re-checks that its type can still be served
+	private static final long LEASE_POLL_MS = 250;
+
+	private final boolean headless;
+	private final Map<String, BlockingQueue<PooledBrowser>> available = new ConcurrentHashMap<>();
+	private final Set<PooledBrowser> all = ConcurrentHashMap.newKeySet();
+	// Browsers per type that exist or are being launched; 0 means none will come
+	private final Map<String, AtomicInteger> capacity = new ConcurrentHashMap<>();
+	private final Map<String, Exception> lastLaunchFailure = new ConcurrentHashMap<>();
+	// Callers currently blocked in lease(), per type (see getWaitingCount)
+	private final Map<String, AtomicInteger> waiting = new ConcurrentHashMap<>();
+	private final ExecutorService launcher;
+	private final AtomicInteger relaunches = new AtomicInteger();
+	private volatile boolean closed;
+
+	/**
+	 * A leased browser together with the engine that owns it.
+	 */
+	public static final class PooledBrowser {
+		private final String type;
+		private final Playwright playwright;
+		private final Browser browser;
+
+		private PooledBrowser(String type, Playwright playwright, Browser browser) {
+			this.type = type;
+			this.playwright = playwright;
+			this.browser = browser;
+		}
+
+		public String getType() { return type; }
+		public Browser getBrowser() { return browser; }
+	}
+
+	/**
+	 * @param browserTypes one entry per browser to pre-launch, e.g.
+	 *                     [chromium, chromium, firefox]
+	 * @param headless     launch mode for every browser in the pool
+	 */
+	public BrowserPool(List<String> browserTypes, boolean headless) {
+		this.headless = headless;
+		this.launcher = Executors.newFixedThreadPool(Math.max(1, Math.min(browserTypes.size(), 4)), runnable -> {
+			Thread thread = new Thread(runnable, "browser-pool-launcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		LOGGER.info("Pre-launching {} browser(s): {}", browserTypes.size(), browserTypes);
+		for (String type : browserTypes) {
+			String normalized = type.trim().toLowerCase();
+			queueFor(normalized);
+			capacity.computeIfAbsent(normalized, key -> new AtomicInteger()).incrementAndGet();
+			launchInBackground(normalized);
+		}
+	}
+
+	/**
+	 * Leases a healthy browser of the requested type, waiting up to the given
+	 * timeout for one to become available. Fails immediately once every launch
+	 * of that type has given up.
+	 */
+	public PooledBrowser lease(String type, long timeoutMs) {
+		String normalized = type.trim().toLowerCase();
+		BlockingQueue<PooledBrowser> queue = available.get(normalized);
+		if (queue == null) {
+			throw new IllegalArgumentException("Browser pool has no '" + type + "' browsers. Pool types: " + available.keySet());
+		}
+
+		AtomicInteger waiters = waiting.computeIfAbsent(normalized, key -> new AtomicInteger());
+		waiters.incrementAndGet();
+		try {
+			return awaitLease(type, normalized, queue, timeoutMs);
+		} finally {
+			waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Leases an idle healthy browser of the type without waiting, or returns
+	 * null when none is idle. For background users (the ContextPool producer)
+	 * that must not compete with tests blocked in lease().
+	 */
+	public PooledBrowser tryLease(String type) {
+		String normalized = type.trim().toLowerCase();
+		BlockingQueue<PooledBrowser> queue = available.get(normalized);
+		if (queue == null) {
+			throw new IllegalArgumentException("Browser pool has no '" + type + "' browsers. Pool types: " + available.keySet());
+		}
+		PooledBrowser pooled;
+		while (!closed && (pooled = queue.poll()) != null) {
+			if (pooled.browser.isConnected()) {
+				return pooled;
+			}
+			LOGGER.warn("Idle {} browser was disconnected. Relaunching in background...", pooled.type);
+			discardAndRelaunch(pooled);
+		}
+		if (!closed && !canLease(normalized)) {
+			throw new RuntimeException("No " + type + " browser left in the pool: every launch failed",
+					lastLaunchFailure.get(normalized));
+		}
+		return null;
+	}
+
+	/** Callers blocked in lease() waiting for a browser of this type. */
+	public int getWaitingCount(String type) {
+		AtomicInteger count = waiting.get(type.trim().toLowerCase());
+		return count == null ? 0 : count.get();
+	}
+
+	/** Browsers of this type idle in the pool right now. */
+	public int getIdleCount(String type) {
+		BlockingQueue<PooledBrowser> queue = available.get(type.trim().toLowerCase());
+		return queue == null ? 0 : queue.size();
+	}
+
+	private PooledBrowser awaitLease(String type, String normalized, BlockingQueue<PooledBrowser> queue,
+			long timeoutMs) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		while (!closed) {
+			long remaining = deadline - System.nanoTime();
+			PooledBrowser pooled;
+			try {
+				pooled = queue.poll(Math.max(0, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(LEASE_POLL_MS))),
+						TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while waiting for a " + type + " browser", e);
+			}
+
+			if (pooled == null) {
+				if (!canLease(normalized)) {
+					throw new RuntimeException("No " + type + " browser left in the pool: every launch failed",
+							lastLaunchFailure.get(normalized));
+				}
+				if (deadline - System.nanoTime() <= 0) {
+					throw new RuntimeException("Timed out after " + timeoutMs + "ms waiting for a " + type + " browser from the pool");
+				}
+				continue;
+			}
+
+			// A browser can die while idle; replace it and keep waiting.
+			if (!pooled.browser.isConnected()) {
+				LOGGER.warn("Idle {} browser was disconnected. Relaunching in background...", pooled.type);
+				discardAndRelaunch(pooled);
+				continue;
+			}
+			return pooled;
+		}
+		throw new IllegalStateException("Browser pool is closed");
+	}
+
+	/**
+	 * Returns a leased browser. Disconnected browsers are discarded and replaced
+	 * in the background so the next lessee never sees a crashed process.
+	 */
+	public void release(PooledBrowser pooled) {
+		if (pooled == null) {
+			return;
+		}
+		if (closed) {
+			closeQuietly(pooled);
+			return;
+		}
+		if (pooled.browser.isConnected()) {
+			available.get(pooled.type).offer(pooled);
+		} else {
+			LOGGER.warn("Returned {} browser is no longer connected. Relaunching in background...", pooled.type);
+			discardAndRelaunch(pooled);
+		}
+	}
+
+	/**
+	 * Whether a browser of this type is idle, leased or still being launched,
+	 * i.e. whether waiting in lease() can succeed.
+	 */
+	public boolean canLease(String type) {
+		AtomicInteger count = capacity.get(type.trim().toLowerCase());
+		return count != null && count.get() > 0;
+	}
+
+	/** Number of crashed browsers replaced so far. */
+	public int getRelaunchCount() {
+		return relaunches.get();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		launcher.shutdownNow();
+		LOGGER.info("Closing browser pool ({} browser(s), {} relaunch(es))", all.size(), relaunches.get());
+		for (PooledBrowser pooled : all) {
+			closeQuietly(pooled);
+		}
+		all.clear();
+		available.clear();
+	}
+
+	/**
+	 * Launches a local browser of the given type on the given engine. Shared with
+	 * BaseTest so pooled and per-worker browsers are configured identically.
+	 */
+	static Browser launchLocalBrowser(Playwright playwright, String browserName, boolean headless) {
+		BrowserType.LaunchOptions options = new BrowserType.LaunchOptions().setHeadless(headless);
+		switch (browserName.toLowerCase()) {
+		case "chromium":
+			return playwright.chromium().launch(options);
+		case "firefox":
+			return playwright.firefox().launch(options);
+		case "webkit":
+			return playwright.webkit().launch(options);
+		default:
+			throw new IllegalArgumentException("Please provide a valid browser name in config.properties.");
+		}
+	}
+
+	private BlockingQueue<PooledBrowser> queueFor(String type) {
+		return available.computeIfAbsent(type, key -> new LinkedBlockingQueue<>());
+	}
+
+	private void discardAndRelaunch(PooledBrowser pooled) {
+		closeQuietly(pooled);
+		relaunches.incrementAndGet();
+		launchInBackground(pooled.type);
+	}
+
+	private void launchInBackground(String type) {
+		if (closed) {
+			return;
+		}
+		launcher.submit(() -> {
+			for (int attempt = 1; !closed; attempt++) {
+				Playwright playwright = null;
+				try {
+					long start = System.currentTimeMillis();
+					playwright = Playwright.create();
+					Browser browser = launchLocalBrowser(playwright, type, headless);
+					PooledBrowser pooled = new PooledBrowser(type, playwright, browser);
+					all.add(pooled);
+					if (closed) {
+						closeQuietly(pooled);
+						return;
+					}
+					queueFor(type).offer(pooled);
+					LOGGER.info("Pooled {} browser ready in {}ms", type, System.currentTimeMillis() - start);
+					return;
+				} catch (Exception e) {
+					if (playwright != null) {
+						playwright.close();
+					}
+					// A bad type or option will not launch on a retry either
+					if (attempt >= LAUNCH_ATTEMPTS || e instanceof IllegalArgumentException) {
+						giveUpLaunch(type, e);
+						return;
+					}
+					long backoff = LAUNCH_BACKOFF_MS << (attempt - 1);
+					LOGGER.warn("Failed to launch pooled {} browser (attempt {}/{}), retrying in {}ms: {}", type,
+							attempt, LAUNCH_ATTEMPTS, backoff, e.getMessage());
+					try {
+						Thread.sleep(backoff);
+					} catch (InterruptedException interrupted) {
+						// Pool closed while backing off
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+		});
+	}
+
+	private void giveUpLaunch(String type, Exception e) {
+		lastLaunchFailure.put(type, e);
+		int left = capacity.get(type).decrementAndGet();
+		LOGGER.error("Giving up on a pooled {} browser: {}. {} {} browser(s) left in the pool.", type, e.getMessage(),
+				left, type);
+	}
+
+	private void closeQuietly(PooledBrowser pooled) {
+		all.remove(pooled);
+		try {
+			// Closing the engine also closes the browser process it launched
+			pooled.playwright.close();
+		} catch (Exception e) {
+			LOGGER.warn("Failed to close pooled {} browser: {}", pooled.type, e.getMessage());
+		}
+	}
+}
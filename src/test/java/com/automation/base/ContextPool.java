@@ -0,0 +1,330 @@
+package com.automation.base;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	ContextPool
+ * Description:       	Keeps a small queue of ready BrowserContexts
+ * 						(with an open Page) so @BeforeMethod only has
+ * 						to take one.
+ * Responsibilities:
+ * 1. Producer:       	A background thread leases idle browsers from
+ * 						the BrowserPool and opens a context + page on
+ * 						each, using the configured context options. It
+ * 						stops when the BrowserPool can no longer launch
+ * 						its browser type, and take() then fails at once.
+ * 2. Yielding:       	Tests that lease a browser directly (logged-in
+ * 						roles, HAR recording, other browser types) come
+ * 						first: the producer does not lease while they
+ * 						wait, and closes an idle warm context to hand
+ * 						its browser to them.
+ * 3. Recycling:      	Optionally resets a returned context (cookies,
+ * 						storage, permissions, routes, pages) instead of
+ * 						destroying it.
+ * 4. Metrics:        	Tracks cold setup cost vs. warm acquire time to
+ * 						report the setup time saved per test.
+ * Threading:         	A warm context travels with the browser lease
+ * 						it was created on, so exactly one thread owns
+ * 						that browser's engine at any time.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class ContextPool implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ContextPool.class);
+
+	// How often the producer re-checks for idle browsers and waiting tests
+	private static final long PRODUCER_POLL_MS = 50;
+
+	// Clears web storage for whatever origin a page is currently on
+	private static final String CLEAR_STORAGE_SCRIPT =
+			"() => { try { localStorage.clear(); sessionStorage.clear(); } catch (e) {} }";
+
+	private final BrowserPool browserPool;
+	private final String browserType;
+	private final Supplier<Browser.NewContextOptions> contextOptions;
+	private final boolean recycle;
+
+	private final BlockingQueue<WarmContext> ready = new LinkedBlockingQueue<>();
+	// One permit per free slot in the ready queue
+	private final Semaphore freeSlots;
+	private final Thread producer;
+	private volatile boolean closed;
+	// Set when the producer stopped because no browser can be leased
+	private volatile Exception producerFailure;
+
+	// Metrics
+	private final AtomicLong coldSetups = new AtomicLong();
+	private final AtomicLong coldSetupNanos = new AtomicLong();
+	private final AtomicLong acquisitions = new AtomicLong();
+	private final AtomicLong acquireNanos = new AtomicLong();
+	private final AtomicLong recycled = new AtomicLong();
+	private final AtomicLong recycleNanos = new AtomicLong();
+	private final AtomicLong recycleRejected = new AtomicLong();
+	private final AtomicLong yielded = new AtomicLong();
+
+	/**
+	 * A ready-to-use context, its page, and the browser lease it lives on.
+	 */
+	public static final class WarmContext {
+		private final BrowserPool.PooledBrowser lease;
+		private final BrowserContext context;
+		private Page page;
+		private int uses;
+		private boolean tracingStarted;
+
+		private WarmContext(BrowserPool.PooledBrowser lease, BrowserContext context, Page page) {
+			this.lease = lease;
+			this.context = context;
+			this.page = page;
+		}
+
+		public BrowserPool.PooledBrowser getLease() { return lease; }
+		public BrowserContext getContext() { return context; }
+		public Page getPage() { return page; }
+
+		/** True when this context already served an earlier test. */
+		public boolean isRecycled() { return uses > 1; }
+
+		// A tracing session outlives recycling, so it is only started once
+		boolean isTracingStarted() { return tracingStarted; }
+		void markTracingStarted() { tracingStarted = true; }
+	}
+
+	public ContextPool(BrowserPool browserPool, String browserType, Supplier<Browser.NewContextOptions> contextOptions,
+			int size, boolean recycle) {
+		this.browserPool = browserPool;
+		this.browserType = browserType;
+		this.contextOptions = contextOptions;
+		this.recycle = recycle;
+		this.freeSlots = new Semaphore(size);
+
+		this.producer = new Thread(this::produce, "context-pool-producer");
+		this.producer.setDaemon(true);
+		this.producer.start();
+		LOGGER.info("Context pool started: {} warm {} context(s), recycle={}", size, browserType, recycle);
+	}
+
+	public String getBrowserType() {
+		return browserType;
+	}
+
+	/**
+	 * Takes a warm context, waiting up to the given timeout for the producer.
+	 */
+	public WarmContext take(long timeoutMs) {
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		WarmContext warm;
+		try {
+			// Short polls so a stopped producer is noticed without waiting out the timeout
+			do {
+				warm = ready.poll(Math.min(250, TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()))),
+						TimeUnit.MILLISECONDS);
+			} while (warm == null && producerFailure == null && deadline - System.nanoTime() > 0);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for a warm context", e);
+		}
+		if (warm == null && producerFailure != null) {
+			throw new RuntimeException("No warm " + browserType + " context can be produced", producerFailure);
+		}
+		if (warm == null) {
+			throw new RuntimeException("Timed out after " + timeoutMs + "ms waiting for a warm " + browserType + " context");
+		}
+		freeSlots.release();
+
+		long waited = System.nanoTime() - start;
+		acquisitions.incrementAndGet();
+		acquireNanos.addAndGet(waited);
+		warm.uses++;
+		LOGGER.info("Warm context ready in {}ms (cold setup averages {}ms)", TimeUnit.NANOSECONDS.toMillis(waited),
+				averageMillis(coldSetupNanos, coldSetups));
+		return warm;
+	}
+
+	/**
+	 * Hands a context back after a test. In recycle mode a verifiably clean
+	 * context goes straight back into the ready queue; otherwise it is closed and
+	 * its browser is returned to the BrowserPool for the producer to re-warm.
+	 * Must be called on the thread that used the context.
+	 */
+	public void giveBack(WarmContext warm) {
+		if (warm == null) {
+			return;
+		}
+		if (recycle && !closed && warm.lease.getBrowser().isConnected() && freeSlots.tryAcquire()) {
+			long start = System.nanoTime();
+			boolean clean = false;
+			try {
+				clean = reset(warm);
+			} catch (Exception e) {
+				LOGGER.warn("Failed to reset context for reuse: " + e.getMessage());
+			}
+			if (clean) {
+				recycled.incrementAndGet();
+				recycleNanos.addAndGet(System.nanoTime() - start);
+				ready.offer(warm);
+				return;
+			}
+			recycleRejected.incrementAndGet();
+			freeSlots.release();
+		}
+		discard(warm);
+	}
+
+	/** One-line summary of the setup time the pool saved. */
+	public String getStatsSummary() {
+		long cold = averageMillis(coldSetupNanos, coldSetups);
+		long warm = averageMillis(acquireNanos, acquisitions);
+		return String.format(
+				"Context pool: %d test(s) served, cold setup avg %dms, warm acquire avg %dms, saved ~%dms/test; "
+						+ "%d recycled (reset avg %dms), %d recycle(s) rejected, %d browser(s) yielded to direct leases",
+				acquisitions.get(), cold, warm, Math.max(0, cold - warm), recycled.get(),
+				averageMillis(recycleNanos, recycled), recycleRejected.get(), yielded.get());
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		producer.interrupt();
+		try {
+			producer.join(TimeUnit.SECONDS.toMillis(30));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		WarmContext warm;
+		while ((warm = ready.poll()) != null) {
+			discard(warm);
+		}
+		LOGGER.info(getStatsSummary());
+	}
+
+	private void produce() {
+		while (!closed) {
+			BrowserPool.PooledBrowser lease = null;
+			try {
+				// Direct lessees go first; never take a browser they are waiting for
+				if (browserPool.getWaitingCount(browserType) > 0) {
+					yieldIdleContext();
+					Thread.sleep(PRODUCER_POLL_MS);
+					continue;
+				}
+				if (!freeSlots.tryAcquire(PRODUCER_POLL_MS, TimeUnit.MILLISECONDS)) {
+					continue;
+				}
+				lease = browserPool.tryLease(browserType);
+				if (lease == null) {
+					freeSlots.release();
+					Thread.sleep(PRODUCER_POLL_MS);
+					continue;
+				}
+
+				long start = System.nanoTime();
+				BrowserContext context = lease.getBrowser().newContext(contextOptions.get());
+				Page page = context.newPage();
+				coldSetupNanos.addAndGet(System.nanoTime() - start);
+				coldSetups.incrementAndGet();
+
+				ready.offer(new WarmContext(lease, context, page));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if (lease != null) {
+					browserPool.release(lease);
+				}
+				return;
+			} catch (Exception e) {
+				// Pool exhausted or browser failure: hand the slot back and try again
+				freeSlots.release();
+				if (lease != null) {
+					browserPool.release(lease);
+				}
+				if (!closed && !browserPool.canLease(browserType)) {
+					producerFailure = e;
+					LOGGER.error("Context producer stopped: no {} browser can be leased ({})", browserType,
+							e.getMessage());
+					return;
+				}
+				if (!closed) {
+					LOGGER.warn("Context producer could not warm a context: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Closes one idle warm context so its browser goes back to the BrowserPool,
+	 * when tests are blocked in lease() and no browser is idle for them.
+	 */
+	private void yieldIdleContext() {
+		if (browserPool.getWaitingCount(browserType) <= browserPool.getIdleCount(browserType)) {
+			return;
+		}
+		WarmContext idle = ready.poll();
+		if (idle != null) {
+			freeSlots.release();
+			discard(idle);
+			yielded.incrementAndGet();
+			LOGGER.info("Closed an idle warm {} context to free its browser for a waiting test", browserType);
+		}
+	}
+
+	/**
+	 * Returns the context to a blank state. Only reports success when
+	 * storageState() confirms no cookies or origin storage survived.
+	 */
+	private boolean reset(WarmContext warm) {
+		BrowserContext context = warm.context;
+		context.unrouteAll();
+		context.clearCookies();
+		context.clearPermissions();
+		context.setOffline(false);
+
+		// Closing the pages also drops page-level listeners and routes
+		for (Page page : context.pages()) {
+			try {
+				page.evaluate(CLEAR_STORAGE_SCRIPT);
+			} catch (Exception e) {
+				// about:blank and error pages have no storage to clear
+			}
+			page.close();
+		}
+
+		JsonObject state = JsonParser.parseString(context.storageState()).getAsJsonObject();
+		if (state.getAsJsonArray("cookies").size() > 0 || state.getAsJsonArray("origins").size() > 0) {
+			return false;
+		}
+
+		warm.page = context.newPage();
+		return true;
+	}
+
+	private void discard(WarmContext warm) {
+		try {
+			warm.context.close();
+		} catch (Exception e) {
+			LOGGER.warn("Failed to close pooled context: " + e.getMessage());
+		}
+		browserPool.release(warm.lease);
+	}
+
+	private static long averageMillis(AtomicLong totalNanos, AtomicLong count) {
+		long n = count.get();
+		return n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / n);
+	}
+}
@@ -0,0 +1,142 @@
+package com.automation.base;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.file.DirectoryStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and updates the per-test duration history used for sharding. The file
+ * is a sorted JSON map of "fully.qualified.Class#method" to milliseconds, so it
+ * diffs cleanly when committed or archived by CI.
+ *
+ * Sharded runs never write the history; each writes a report of its own
+ * measurements, and CI merges all reports once the shards are done:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.automation.base.DurationHistory
+ *     -Dexec.args="test-durations.json target/test-durations"
+ * </pre>
+ */
+public class DurationHistory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DurationHistory.class);
+
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final Type MAP_TYPE = new TypeToken<TreeMap<String, Long>>() {
+	}.getType();
+
+	private DurationHistory() {
+	}
+
+	/** History key for a test method. */
+	public static String key(ITestNGMethod method) {
+		return method.getRealClass().getName() + "#" + method.getMethodName();
+	}
+
+	/** Loads the history, or an empty map when there is none yet. */
+	public static Map<String, Long> load(Path file) {
+		if (!Files.exists(file)) {
+			return new TreeMap<>();
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			Map<String, Long> history = GSON.fromJson(reader, MAP_TYPE);
+			return history != null ? history : new TreeMap<>();
+		} catch (Exception e) {
+			LOGGER.warn("Ignoring unreadable duration history {}: {}", file, e.getMessage());
+			return new TreeMap<>();
+		}
+	}
+
+	/** Writes one shard's measurements (no history merge). */
+	public static void writeReport(Path file, Map<String, Long> measured) {
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tmp = Files.createTempFile(parent, "durations", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				GSON.toJson(new TreeMap<>(measured), MAP_TYPE, writer);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			LOGGER.info("Wrote {} test duration(s) to {}", measured.size(), file.toAbsolutePath());
+		} catch (IOException e) {
+			LOGGER.warn("Failed to write duration report {}: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * Post-shard step: merges every *.json report in the report directory into
+	 * the history file. Arguments: history file, report directory.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			throw new IllegalArgumentException("Usage: DurationHistory <history file> <report dir>");
+		}
+		Path reportDir = Paths.get(args[1]);
+		Map<String, Long> measured = new HashMap<>();
+		if (Files.isDirectory(reportDir)) {
+			try (DirectoryStream<Path> reports = Files.newDirectoryStream(reportDir, "*.json")) {
+				for (Path report : reports) {
+					measured.putAll(load(report));
+				}
+			}
+		}
+		if (measured.isEmpty()) {
+			LOGGER.warn("No duration reports in {}; history left unchanged", reportDir.toAbsolutePath());
+		}
+		merge(Paths.get(args[0]), measured);
+	}
+
+	/**
+	 * Merges this run's measurements into the history file. Known tests move
+	 * halfway towards the new value so one slow run does not reshuffle every
+	 * shard; tests not run here keep their entry. Forks writing the same file
+	 * are serialised with a file lock.
+	 */
+	public static void merge(Path file, Map<String, Long> measured) {
+		if (measured.isEmpty()) {
+			return;
+		}
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			try (FileChannel channel = FileChannel.open(parent.resolve(file.getFileName() + ".lock"),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+				Map<String, Long> history = load(file);
+				for (Map.Entry<String, Long> entry : measured.entrySet()) {
+					Long previous = history.get(entry.getKey());
+					history.put(entry.getKey(), previous == null ? entry.getValue() : (previous + entry.getValue()) / 2);
+				}
+
+				Path tmp = Files.createTempFile(parent, "durations", ".tmp");
+				try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+					GSON.toJson(history, MAP_TYPE, writer);
+				}
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			LOGGER.info("Recorded {} test duration(s) to {}", measured.size(), file.toAbsolutePath());
+		} catch (IOException e) {
+			LOGGER.warn("Failed to update duration history {}: {}", file, e.getMessage());
+		}
+	}
+}
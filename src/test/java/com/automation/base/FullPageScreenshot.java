@@ -0,0 +1,16 @@
+package com.automation.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a test method (or every test in a class) into full-page failure
+ * screenshots. Without it BaseTest only captures the viewport, which is far
+ * smaller on long pages.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface FullPageScreenshot {
+}
@@ -0,0 +1,134 @@
+package com.automation.base;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarNotFound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	HarArchive
+ * Description:       	Stores one HAR file per test class for the
+ * 						network=record / network=replay modes.
+ * Responsibilities:
+ * 1. Recording:      	Hands out a scratch HAR path for each context and,
+ * 						once the context is closed, merges it into
+ * 						<dir>/<TestClass>.har. The first recording of a
+ * 						class in a run replaces the old file.
+ * 2. Replay:         	Serves a context entirely from the class HAR via
+ * 						routeFromHAR; unmatched requests are aborted (or
+ * 						passed through with harNotFound=fallback).
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class HarArchive {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HarArchive.class);
+
+	private final Path directory;
+	private final HarNotFound notFound;
+
+	// Classes whose HAR was already started in this run (later tests append)
+	private final Set<String> recordedThisRun = ConcurrentHashMap.newKeySet();
+	private final Map<String, Object> classLocks = new ConcurrentHashMap<>();
+
+	public HarArchive(Path directory, HarNotFound notFound) {
+		this.directory = directory;
+		this.notFound = notFound;
+	}
+
+	public Path harFor(Class<?> testClass) {
+		return directory.resolve(testClass.getSimpleName() + ".har");
+	}
+
+	/** Scratch file a single context records into (see {@link #merge}). */
+	public Path newRecording(Class<?> testClass) {
+		try {
+			Path parts = directory.resolve(".parts");
+			Files.createDirectories(parts);
+			return Files.createTempFile(parts, testClass.getSimpleName() + "-", ".har");
+		} catch (IOException e) {
+			throw new RuntimeException("Cannot create HAR recording file in " + directory, e);
+		}
+	}
+
+	/**
+	 * Appends a closed context's recording to the class HAR. Must be called after
+	 * context.close(), which is when Playwright writes the file.
+	 */
+	public void merge(Class<?> testClass, Path recording) {
+		Path target = harFor(testClass);
+		synchronized (classLocks.computeIfAbsent(testClass.getName(), key -> new Object())) {
+			try {
+				if (!Files.exists(recording)) {
+					LOGGER.warn("No HAR was written to {}", recording);
+					return;
+				}
+				if (recordedThisRun.add(testClass.getName()) || !Files.exists(target)) {
+					Files.move(recording, target, StandardCopyOption.REPLACE_EXISTING);
+				} else {
+					JsonObject merged = read(target);
+					JsonObject part = read(recording);
+					appendArray(merged, part, "pages");
+					appendArray(merged, part, "entries");
+					write(merged, target);
+					Files.delete(recording);
+				}
+				LOGGER.info("HAR for {} updated: {}", testClass.getSimpleName(), target.toAbsolutePath());
+			} catch (IOException e) {
+				LOGGER.warn("Failed to merge HAR recording {}: {}", recording, e.getMessage());
+			}
+		}
+	}
+
+	/** Serves every request of the context from the class HAR. */
+	public void replay(BrowserContext context, Class<?> testClass) {
+		Path har = harFor(testClass);
+		if (!Files.exists(har)) {
+			throw new RuntimeException("No HAR recorded for " + testClass.getSimpleName() + " at " + har.toAbsolutePath()
+					+ ". Run it once with -Dnetwork=record.");
+		}
+		context.routeFromHAR(har, new BrowserContext.RouteFromHAROptions().setNotFound(notFound));
+	}
+
+	private static void appendArray(JsonObject into, JsonObject from, String name) {
+		JsonObject fromLog = from.getAsJsonObject("log");
+		JsonObject intoLog = into.getAsJsonObject("log");
+		if (fromLog == null || intoLog == null || !fromLog.has(name)) {
+			return;
+		}
+		if (!intoLog.has(name)) {
+			intoLog.add(name, new JsonArray());
+		}
+		intoLog.getAsJsonArray(name).addAll(fromLog.getAsJsonArray(name));
+	}
+
+	private static JsonObject read(Path file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return JsonParser.parseReader(reader).getAsJsonObject();
+		}
+	}
+
+	private void write(JsonObject har, Path target) throws IOException {
+		Path tmp = Files.createTempFile(directory.resolve(".parts"), "merged-", ".har");
+		try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+			writer.write(har.toString());
+		}
+		Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+	}
+}
@@ -0,0 +1,519 @@
+package com.automation.base;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	LocalOpenCartServer
+ * Description:       	Embedded stand-in for the OpenCart demo site
+ * 						(JDK HttpServer, in-memory state).
+ * Routes (index.php?route=...):
+ * - common/home:     	Home page with search, autocomplete and the
+ * 						"My account" menu.
+ * - account/register:	POST registration (302 to account/success,
+ * 						duplicate e-mail warning like OpenCart). Like
+ * 						OpenCart, the new customer is logged in and a
+ * 						logged-in session is sent to account/account.
+ * - account/login:   	Login form; POST sets the session customer.
+ * - account/account: 	"My Account" page; redirects to login when the
+ * 						session is anonymous.
+ * - product/search:  	Search results (h1 "Search - term", product-thumb
+ * 						tiles).
+ * - extension/maza/product/product/autocomplete: HTML <li> suggestions.
+ * - product/product: 	Product page with quantity and Add to Cart.
+ * - checkout/cart(/add, /remove): Per-session cart.
+ * The markup mirrors what the page objects locate (labels, roles,
+ * texts); the category page's jQuery UI price filter is not emulated.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class LocalOpenCartServer implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LocalOpenCartServer.class);
+
+	private static final String SESSION_COOKIE = "OCSESSID";
+
+	private static final class Product {
+		private final int id;
+		private final String name;
+		private final String model;
+		private final double price;
+
+		private Product(int id, String name, String model, double price) {
+			this.id = id;
+			this.name = name;
+			this.model = model;
+			this.price = price;
+		}
+	}
+
+	private static final class Customer {
+		private final String firstName;
+		private final String password;
+
+		private Customer(String firstName, String password) {
+			this.firstName = firstName;
+			this.password = password;
+		}
+	}
+
+	private static final class Session {
+		private volatile String customerEmail;
+		// product id -> quantity, in the order items were added
+		private final Map<Integer, Integer> cart = new LinkedHashMap<>();
+	}
+
+	private static final List<Product> CATALOG = Arrays.asList(
+			new Product(28, "HTC Touch HD", "Product 1", 146.00),
+			new Product(30, "Canon EOS 5D", "Product 3", 134.00),
+			new Product(40, "iPhone", "product 11", 123.20),
+			new Product(43, "MacBook", "Product 16", 602.00),
+			new Product(44, "MacBook Air", "Product 17", 1202.00),
+			new Product(45, "MacBook Pro", "Product 18", 2000.00),
+			new Product(47, "HP LP3065", "Product 21", 122.00),
+			new Product(48, "iPod Classic", "product 20", 122.00));
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final String baseUrl;
+
+	private final Map<String, Customer> customers = new ConcurrentHashMap<>();
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+	/**
+	 * Starts the server on the given port (0 = any free port).
+	 */
+	public LocalOpenCartServer(int port, int threads) {
+		try {
+			this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+		} catch (IOException e) {
+			throw new RuntimeException("Cannot start local OpenCart server on port " + port, e);
+		}
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "local-opencart");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+		this.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+		LOGGER.info("Local OpenCart stand-in listening on {}", baseUrl);
+	}
+
+	/** Base URL with trailing slash, e.g. http://127.0.0.1:54321/ */
+	public String getBaseUrl() {
+		return baseUrl;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+		LOGGER.info("Local OpenCart stand-in stopped ({} customer(s), {} session(s))", customers.size(),
+				sessions.size());
+	}
+
+	// ------------------------------------------------------------------
+	// Dispatch
+	// ------------------------------------------------------------------
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+			boolean post = "POST".equalsIgnoreCase(exchange.getRequestMethod());
+			if (post) {
+				params.putAll(parseQuery(readBody(exchange.getRequestBody())));
+			}
+			Session session = session(exchange);
+			String route = params.getOrDefault("route", "common/home");
+
+			switch (route) {
+			case "common/home":
+				html(exchange, 200, "Your Store", homeContent());
+				break;
+			case "account/register":
+				register(exchange, post, params, session);
+				break;
+			case "account/success":
+				html(exchange, 200, "Your Account Has Been Created!",
+						"<h1>Your Account Has Been Created!</h1>");
+				break;
+			case "account/login":
+				login(exchange, post, params, session);
+				break;
+			case "account/logout":
+				session.customerEmail = null;
+				html(exchange, 200, "Account Logout", "<h1>Account Logout</h1>");
+				break;
+			case "account/account":
+				account(exchange, session);
+				break;
+			case "product/search":
+				search(exchange, params.getOrDefault("search", ""));
+				break;
+			case "extension/maza/product/product/autocomplete":
+				autocomplete(exchange, params.getOrDefault("filter_name", ""));
+				break;
+			case "product/product":
+				product(exchange, params);
+				break;
+			case "checkout/cart/add":
+				addToCart(exchange, params, session);
+				break;
+			case "checkout/cart/remove":
+				synchronized (session.cart) {
+					session.cart.remove(parseInt(params.get("key"), -1));
+				}
+				redirect(exchange, "index.php?route=checkout/cart");
+				break;
+			case "checkout/cart":
+				cart(exchange, session);
+				break;
+			default:
+				html(exchange, 404, "Page Not Found", "<h1>Page Not Found!</h1>");
+			}
+		} catch (Exception e) {
+			LOGGER.warn("Local server failed on {}: {}", exchange.getRequestURI(), e.getMessage());
+			send(exchange, 500, "text/plain; charset=UTF-8", "Internal Server Error");
+		} finally {
+			exchange.close();
+		}
+	}
+
+	// ------------------------------------------------------------------
+	// Routes
+	// ------------------------------------------------------------------
+
+	private void register(HttpExchange exchange, boolean post, Map<String, String> params, Session session)
+			throws IOException {
+		if (session.customerEmail != null) {
+			redirect(exchange, "index.php?route=account/account");
+			return;
+		}
+		if (!post) {
+			html(exchange, 200, "Register Account", "<h1>Register Account</h1>");
+			return;
+		}
+		List<String> errors = new ArrayList<>();
+		for (String field : Arrays.asList("firstname", "lastname", "email", "telephone", "password")) {
+			if (params.getOrDefault(field, "").trim().isEmpty()) {
+				errors.add("Warning: " + field + " is required!");
+			}
+		}
+		if (!params.getOrDefault("password", "").equals(params.get("confirm"))) {
+			errors.add("Password confirmation does not match password!");
+		}
+		if (!"1".equals(params.get("agree"))) {
+			errors.add("Warning: You must agree to the Privacy Policy!");
+		}
+		if (errors.isEmpty() && customers.putIfAbsent(params.get("email").toLowerCase(Locale.ROOT),
+				new Customer(params.get("firstname"), params.get("password"))) != null) {
+			errors.add("Warning: E-Mail Address is already registered!");
+		}
+
+		if (!errors.isEmpty()) {
+			html(exchange, 200, "Register Account",
+					"<div class=\"alert alert-danger\">" + escape(String.join(" ", errors)) + "</div>");
+			return;
+		}
+		session.customerEmail = params.get("email").toLowerCase(Locale.ROOT);
+		redirect(exchange, "index.php?route=account/success");
+	}
+
+	private void login(HttpExchange exchange, boolean post, Map<String, String> params, Session session)
+			throws IOException {
+		String alert = "";
+		if (post) {
+			String email = params.getOrDefault("email", "").toLowerCase(Locale.ROOT);
+			Customer customer = customers.get(email);
+			if (customer != null && customer.password.equals(params.get("password"))) {
+				session.customerEmail = email;
+				redirect(exchange, "index.php?route=account/account");
+				return;
+			}
+			alert = "<div class=\"alert alert-danger\">Warning: No match for E-Mail Address and/or Password.</div>";
+		}
+		html(exchange, 200, "Account Login", alert
+				+ "<h2>Returning Customer</h2>"
+				+ "<form method=\"post\" action=\"index.php?route=account/login\">"
+				+ "<label for=\"input-email\">E-Mail Address</label>"
+				+ "<input type=\"text\" name=\"email\" id=\"input-email\">"
+				+ "<label for=\"input-password\">Password</label>"
+				+ "<input type=\"password\" name=\"password\" id=\"input-password\">"
+				+ "<input type=\"submit\" value=\"Login\">"
+				+ "</form>");
+	}
+
+	private void account(HttpExchange exchange, Session session) throws IOException {
+		String email = session.customerEmail;
+		if (email == null) {
+			redirect(exchange, "index.php?route=account/login");
+			return;
+		}
+		html(exchange, 200, "My Account", "<h2>My Account</h2><p>Welcome back, "
+				+ escape(customers.get(email).firstName) + ".</p>");
+	}
+
+	private void search(HttpExchange exchange, String term) throws IOException {
+		StringBuilder content = new StringBuilder("<h1>Search - ").append(escape(term)).append("</h1>");
+		List<Product> matches = find(term);
+		if (matches.isEmpty()) {
+			content.append("<p>There is no product that matches the search criteria.</p>");
+		}
+		for (Product product : matches) {
+			content.append("<div class=\"product-thumb\"><h4><a href=\"").append(productUrl(product)).append("\">")
+					.append(escape(product.name)).append("</a></h4><span class=\"price\">")
+					.append(price(product.price)).append("</span></div>");
+		}
+		content.append("<p>Showing 1 to ").append(matches.size()).append(" of ").append(matches.size())
+				.append(" (1 Pages)</p>");
+		html(exchange, 200, "Search - " + term, content.toString());
+	}
+
+	private void autocomplete(HttpExchange exchange, String term) throws IOException {
+		StringBuilder items = new StringBuilder();
+		if (!term.isEmpty()) {
+			for (Product product : find(term)) {
+				items.append("<li><a href=\"").append(productUrl(product)).append("\">")
+						.append("<div class=\"image\"><img src=\"data:image/gif;base64,R0lGODlhAQABAAAAACw=\" alt=\"")
+						.append(escape(product.name)).append("\" width=\"40\" height=\"40\"></div>")
+						.append("<div class=\"name\">").append(escape(product.name)).append("</div>")
+						.append("<div class=\"price\">").append(price(product.price)).append("</div></a></li>");
+			}
+		}
+		send(exchange, 200, "text/html; charset=UTF-8", items.toString());
+	}
+
+	private void product(HttpExchange exchange, Map<String, String> params) throws IOException {
+		Product product = byId(parseInt(params.get("product_id"), -1));
+		if (product == null) {
+			html(exchange, 404, "Product not found!", "<h1>Product not found!</h1>");
+			return;
+		}
+		html(exchange, 200, product.name, "<h1>" + escape(product.name) + "</h1>"
+				+ "<p class=\"price\">" + price(product.price) + "</p>"
+				+ "<div id=\"product-alert\"></div>"
+				+ "<button type=\"button\" aria-label=\"Decrease quantity\" onclick=\"step(-1)\">-</button>"
+				+ "<input type=\"text\" name=\"quantity\" id=\"input-quantity\" value=\"1\" size=\"2\">"
+				+ "<button type=\"button\" aria-label=\"Increase quantity\" onclick=\"step(1)\">+</button>"
+				+ "<button type=\"button\" onclick=\"addToCart(" + product.id + ")\">Add to Cart</button>"
+				+ "<script>"
+				+ "function step(d){var q=document.getElementById('input-quantity');"
+				+ "q.value=Math.max(1,(parseInt(q.value,10)||1)+d);}"
+				+ "function addToCart(id){var q=document.getElementById('input-quantity').value;"
+				+ "fetch('index.php?route=checkout/cart/add',{method:'POST',"
+				+ "headers:{'Content-Type':'application/x-www-form-urlencoded'},"
+				+ "body:'product_id='+id+'&quantity='+encodeURIComponent(q)})"
+				+ ".then(function(r){return r.json();}).then(function(json){"
+				+ "document.getElementById('product-alert').innerHTML='<div class=\"alert alert-success\">'"
+				+ "+json.success+' <a href=\"index.php?route=checkout/cart\">View Cart</a></div>';});}"
+				+ "</script>");
+	}
+
+	private void addToCart(HttpExchange exchange, Map<String, String> params, Session session) throws IOException {
+		Product product = byId(parseInt(params.get("product_id"), -1));
+		if (product == null) {
+			send(exchange, 200, "application/json", "{\"error\":\"Product not found!\"}");
+			return;
+		}
+		int quantity = Math.max(1, parseInt(params.get("quantity"), 1));
+		synchronized (session.cart) {
+			session.cart.merge(product.id, quantity, Integer::sum);
+		}
+		send(exchange, 200, "application/json", "{\"success\":\"Success: You have added " + escape(product.name)
+				+ " to your shopping cart!\"}");
+	}
+
+	private void cart(HttpExchange exchange, Session session) throws IOException {
+		Map<Integer, Integer> items;
+		synchronized (session.cart) {
+			items = new LinkedHashMap<>(session.cart);
+		}
+		if (items.isEmpty()) {
+			html(exchange, 200, "Shopping Cart", "<h1>Shopping Cart</h1><p>Your shopping cart is empty!</p>"
+					+ "<a href=\"index.php?route=common/home\">Continue</a>");
+			return;
+		}
+
+		StringBuilder rows = new StringBuilder();
+		for (Map.Entry<Integer, Integer> item : items.entrySet()) {
+			Product product = byId(item.getKey());
+			rows.append("<tr><td></td>")
+					.append("<td><a href=\"").append(productUrl(product)).append("\">").append(escape(product.name))
+					.append("</a></td><td>").append(escape(product.model)).append("</td>")
+					.append("<td><form method=\"post\" action=\"index.php?route=checkout/cart/remove\">")
+					.append("<input type=\"text\" name=\"quantity[").append(product.id).append("]\" value=\"")
+					.append(item.getValue()).append("\" size=\"1\">")
+					.append("<input type=\"hidden\" name=\"key\" value=\"").append(product.id).append("\">")
+					.append("<button type=\"submit\" title=\"Remove\">x</button></form></td>")
+					.append("<td>").append(price(product.price)).append("</td>")
+					.append("<td>").append(price(product.price * item.getValue())).append("</td></tr>");
+		}
+		html(exchange, 200, "Shopping Cart", "<h1>Shopping Cart</h1><table><thead><tr>"
+				+ "<th>Image</th><th>Product Name</th><th>Model</th><th>Quantity</th><th>Unit Price</th><th>Total</th>"
+				+ "</tr></thead><tbody>" + rows + "</tbody></table>"
+				+ "<a href=\"index.php?route=common/home\">Continue Shopping</a>");
+	}
+
+	private String homeContent() {
+		return "<h1>Top Products</h1>";
+	}
+
+	// ------------------------------------------------------------------
+	// Rendering
+	// ------------------------------------------------------------------
+
+	private void html(HttpExchange exchange, int status, String title, String content) throws IOException {
+		String page = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>" + escape(title) + "</title>"
+				+ "<base href=\"" + baseUrl + "\"></head><body>"
+				+ "<header>"
+				+ "<form action=\"index.php\" method=\"get\">"
+				+ "<input type=\"hidden\" name=\"route\" value=\"product/search\">"
+				+ "<input type=\"text\" name=\"search\" placeholder=\"Search For Products\""
+				+ " aria-label=\"Search For Products\" autocomplete=\"off\" oninput=\"suggest(this.value)\">"
+				+ "<button type=\"submit\">Search</button>"
+				+ "<ul class=\"dropdown-menu\" id=\"autocomplete\"></ul>"
+				+ "</form>"
+				+ "<nav><button type=\"button\">Mega Menu</button>"
+				+ "<button type=\"button\">My account</button>"
+				+ "<a href=\"index.php?route=account/login\">Login</a>"
+				+ "<a href=\"index.php?route=checkout/cart\">Shopping Cart</a></nav>"
+				+ "</header>"
+				+ "<div id=\"content\">" + content + "</div>"
+				+ "<script>"
+				+ "function suggest(v){fetch('index.php?route=extension/maza/product/product/autocomplete&filter_name='"
+				+ "+encodeURIComponent(v)).then(function(r){return r.text();})"
+				+ ".then(function(h){document.getElementById('autocomplete').innerHTML=h;});}"
+				+ "</script>"
+				+ "</body></html>";
+		send(exchange, status, "text/html; charset=UTF-8", page);
+	}
+
+	private void redirect(HttpExchange exchange, String location) throws IOException {
+		exchange.getResponseHeaders().set("Location", baseUrl + location);
+		exchange.sendResponseHeaders(302, -1);
+	}
+
+	private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	// ------------------------------------------------------------------
+	// Helpers
+	// ------------------------------------------------------------------
+
+	private Session session(HttpExchange exchange) {
+		String id = null;
+		List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+		if (cookies != null) {
+			for (String header : cookies) {
+				for (String cookie : header.split(";")) {
+					String[] pair = cookie.trim().split("=", 2);
+					if (pair.length == 2 && pair[0].equals(SESSION_COOKIE) && sessions.containsKey(pair[1])) {
+						id = pair[1];
+					}
+				}
+			}
+		}
+		if (id == null) {
+			id = UUID.randomUUID().toString().replace("-", "");
+			sessions.put(id, new Session());
+			exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + id + "; Path=/; HttpOnly");
+		}
+		return sessions.get(id);
+	}
+
+	private static List<Product> find(String term) {
+		List<Product> matches = new ArrayList<>();
+		String needle = term.trim().toLowerCase(Locale.ROOT);
+		for (Product product : CATALOG) {
+			if (!needle.isEmpty() && product.name.toLowerCase(Locale.ROOT).contains(needle)) {
+				matches.add(product);
+			}
+		}
+		return matches;
+	}
+
+	private static Product byId(int id) {
+		for (Product product : CATALOG) {
+			if (product.id == id) {
+				return product;
+			}
+		}
+		return null;
+	}
+
+	private static String productUrl(Product product) {
+		return "index.php?route=product/product&amp;product_id=" + product.id;
+	}
+
+	private static String price(double value) {
+		return String.format(Locale.US, "$%,.2f", value);
+	}
+
+	private static int parseInt(String value, int fallback) {
+		try {
+			return value == null ? fallback : Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return fallback;
+		}
+	}
+
+	private static String readBody(InputStream in) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		byte[] chunk = new byte[4096];
+		int read;
+		while ((read = in.read(chunk)) != -1) {
+			buffer.write(chunk, 0, read);
+		}
+		return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static Map<String, String> parseQuery(String query) throws UnsupportedEncodingException {
+		Map<String, String> params = new HashMap<>();
+		if (query == null || query.isEmpty()) {
+			return params;
+		}
+		for (String pair : query.split("&")) {
+			String[] parts = pair.split("=", 2);
+			params.put(URLDecoder.decode(parts[0], "UTF-8"), parts.length > 1 ? URLDecoder.decode(parts[1], "UTF-8") : "");
+		}
+		return params;
+	}
+
+	private static String escape(String text) {
+		return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+				.replace("\"", "&quot;").replace("'", "&#39;");
+	}
+
+}
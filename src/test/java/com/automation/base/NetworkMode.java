@@ -0,0 +1,25 @@
+package com.automation.base;
+
+/**
+ * Where UI tests get their HTTP responses from, selected with the 'network'
+ * property.
+ * <ul>
+ * <li>LIVE - hit the real site (default).</li>
+ * <li>RECORD - hit the real site and save every response to a HAR file per
+ * test class.</li>
+ * <li>REPLAY - serve responses from the recorded HAR files only; nothing
+ * leaves the machine.</li>
+ * </ul>
+ */
+public enum NetworkMode {
+	LIVE, RECORD, REPLAY;
+
+	/** Parses config values such as "replay" or "LIVE". */
+	public static NetworkMode fromConfig(String value) {
+		try {
+			return valueOf(value.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown network mode '" + value + "'. Use live, record or replay.");
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.automation.base;
+
+import com.automation.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	ParallelSuiteListener
+ * Description:       	Applies the configured parallel mode and worker
+ * 						thread count to every suite before TestNG
+ * 						schedules it.
+ * Responsibilities:
+ * 1. Mode:           	Reads 'parallelMode' (none, methods, classes, 
+ * 						tests, instances).
+ * 2. Threads:        	Reads 'workerThreads'.
+ * 3. Data providers: 	Reads 'dataProviderThreads', the pool that runs the
+ * 						rows of @DataProvider(parallel = true) providers.
+ * Configuration:     	-DparallelMode=... / -DworkerThreads=... /
+ * 						-DdataProviderThreads=... override
+ * 						config.properties.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSuiteListener.class);
+
+	@Override
+	public void alter(List<XmlSuite> suites) {
+		String mode = ConfigReader.getProperty("parallelMode", "none");
+		int threads = Integer.parseInt(ConfigReader.getProperty("workerThreads", "1"));
+		int dataProviderThreads = Integer.parseInt(ConfigReader.getProperty("dataProviderThreads", "4"));
+
+		if (threads < 1) {
+			throw new IllegalArgumentException("workerThreads must be at least 1 but was " + threads);
+		}
+		if (dataProviderThreads < 1) {
+			throw new IllegalArgumentException("dataProviderThreads must be at least 1 but was " + dataProviderThreads);
+		}
+
+		XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+
+		for (XmlSuite suite : suites) {
+			LOGGER.info("Configuring suite '{}': parallel={} threads={} dataProviderThreads={}", suite.getName(),
+					parallelMode, threads, dataProviderThreads);
+			suite.setParallel(parallelMode);
+			suite.setThreadCount(threads);
+			suite.setDataProviderThreadCount(dataProviderThreads);
+			// One pool for all providers: its threads, and the Browser each one
+			// holds, are reused instead of created per data-driven method
+			suite.setShareThreadPoolForDataProviders(true);
+		}
+	}
+}
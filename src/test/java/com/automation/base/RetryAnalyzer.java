@@ -0,0 +1,43 @@
+package com.automation.base;
+
+import com.automation.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Retries a failed test up to 'maxRetries' times (default 0 = no retries).
+ * TestNG re-runs a retried test on the same worker thread, so the attempt
+ * number is handed to the next @BeforeMethod through a ThreadLocal. BaseTest
+ * uses it for the on-first-retry tracing mode.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RetryAnalyzer.class);
+	private static final ThreadLocal<Integer> PENDING_ATTEMPT = new ThreadLocal<>();
+
+	private final int maxRetries = Integer.parseInt(ConfigReader.getProperty("maxRetries", "0"));
+	private int attempts;
+
+	@Override
+	public boolean retry(ITestResult result) {
+		if (attempts < maxRetries) {
+			attempts++;
+			LOGGER.warn("Retrying {} (retry {} of {})", result.getName(), attempts, maxRetries);
+			PENDING_ATTEMPT.set(attempts);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the retry number of the test about to run on this thread (0 for a
+	 * first run) and clears it.
+	 */
+	public static int consumeRetryAttempt() {
+		Integer attempt = PENDING_ATTEMPT.get();
+		PENDING_ATTEMPT.remove();
+		return attempt == null ? 0 : attempt;
+	}
+}
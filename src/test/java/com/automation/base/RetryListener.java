@@ -0,0 +1,23 @@
+package com.automation.base;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Attaches RetryAnalyzer to every @Test that does not declare its own.
+ */
+public class RetryListener implements IAnnotationTransformer {
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+		Class<?> current = annotation.getRetryAnalyzerClass();
+		if (current == null || current == DisabledRetryAnalyzer.class) {
+			annotation.setRetryAnalyzer(RetryAnalyzer.class);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.automation.base;
+
+import com.automation.utils.ConfigReader;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	RouteLayer
+ * Description:       	Context-level request routing installed by
+ * 						BaseTest for every test.
+ * Responsibilities:
+ * 1. Blocking:       	Aborts resource types (image, font, ...) and
+ * 						domains (analytics, ads) listed for the test's
+ * 						route profile.
+ * 2. Caching:        	Hands cacheable GET assets to the shared
+ * 						AssetCache.
+ * 3. Reporting:      	Summarises blocked requests, cache hit rate and
+ * 						bytes saved for the run.
+ * Configuration:     	routeProfile.<name>.blockResourceTypes,
+ * 						routeProfile.<name>.blockDomains, assetCache,
+ * 						assetCacheDir, assetCacheTypes.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class RouteLayer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RouteLayer.class);
+
+	/** Resource types and domains a profile blocks. */
+	private static final class Profile {
+		private final Set<String> resourceTypes;
+		private final List<String> domains;
+
+		private Profile(Set<String> resourceTypes, List<String> domains) {
+			this.resourceTypes = resourceTypes;
+			this.domains = domains;
+		}
+
+		private boolean isEmpty() {
+			return resourceTypes.isEmpty() && domains.isEmpty();
+		}
+	}
+
+	private final AssetCache cache;
+	private final Set<String> cacheableTypes;
+	private final Map<String, Profile> profiles = new ConcurrentHashMap<>();
+	private final AtomicLong blocked = new AtomicLong();
+
+	/**
+	 * @param cache shared asset cache, or null to only block
+	 */
+	public RouteLayer(AssetCache cache) {
+		this.cache = cache;
+		this.cacheableTypes = csv(ConfigReader.getProperty("assetCacheTypes", "stylesheet,script,font,image"));
+	}
+
+	/**
+	 * Routes the context's requests through this layer for the given profile.
+	 * Does nothing (and keeps the browser's own routing fast path) when the
+	 * profile blocks nothing and caching is off.
+	 */
+	public void install(BrowserContext context, String profileName) {
+		Profile profile = profiles.computeIfAbsent(profileName, RouteLayer::loadProfile);
+		if (profile.isEmpty() && cache == null) {
+			return;
+		}
+		context.route("**/*", route -> handle(route, profile));
+	}
+
+	/** One-line summary of what the layer saved this run. */
+	public String getStatsSummary() {
+		String summary = "Route layer: " + blocked.get() + " request(s) blocked";
+		if (cache != null) {
+			long hits = cache.getHits() + cache.getRevalidated();
+			long total = hits + cache.getMisses();
+			summary += String.format("; asset cache %d/%d hit(s) (%.1f%%, %d revalidated), %.1f MB saved", hits, total,
+					total == 0 ? 0.0 : 100.0 * hits / total, cache.getRevalidated(),
+					cache.getBytesSaved() / (1024.0 * 1024.0));
+		}
+		return summary;
+	}
+
+	private void handle(Route route, Profile profile) {
+		Request request = route.request();
+		if (profile.resourceTypes.contains(request.resourceType()) || isBlockedDomain(request.url(), profile)) {
+			blocked.incrementAndGet();
+			route.abort("blockedbyclient");
+			return;
+		}
+		if (cache != null && "GET".equals(request.method()) && cacheableTypes.contains(request.resourceType())) {
+			try {
+				cache.serve(route);
+			} catch (Exception e) {
+				// Network error on a miss: let the browser try (and report) it itself
+				LOGGER.debug("Asset cache could not serve {}: {}", request.url(), e.getMessage());
+				route.fallback();
+			}
+			return;
+		}
+		route.fallback();
+	}
+
+	private static boolean isBlockedDomain(String url, Profile profile) {
+		if (profile.domains.isEmpty()) {
+			return false;
+		}
+		String host;
+		try {
+			host = URI.create(url).getHost();
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		if (host == null) {
+			return false;
+		}
+		for (String domain : profile.domains) {
+			if (host.equals(domain) || host.endsWith("." + domain)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Profile loadProfile(String name) {
+		if (name == null || name.trim().isEmpty() || name.equalsIgnoreCase("none")) {
+			return new Profile(Collections.<String>emptySet(), Collections.<String>emptyList());
+		}
+		Profile profile = new Profile(csv(ConfigReader.getProperty("routeProfile." + name + ".blockResourceTypes", "")),
+				new ArrayList<>(csv(ConfigReader.getProperty("routeProfile." + name + ".blockDomains", ""))));
+		LOGGER.info("Route profile '{}': blocking types {} and domains {}", name, profile.resourceTypes,
+				profile.domains);
+		return profile;
+	}
+
+	private static Set<String> csv(String value) {
+		Set<String> items = new HashSet<>();
+		for (String item : Arrays.asList(value.split(","))) {
+			if (!item.trim().isEmpty()) {
+				items.add(item.trim().toLowerCase(Locale.ROOT));
+			}
+		}
+		return items;
+	}
+}
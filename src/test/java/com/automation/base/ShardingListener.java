@@ -0,0 +1,198 @@
+package com.automation.base;
+
+import com.automation.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	ShardingListener
+ * Description:       	Splits the suite into N duration-balanced shards
+ * 						so -Dshard=i/N runs one slice of it.
+ * Responsibilities:
+ * 1. Recording:      	Sums each test method's run time. An unsharded
+ * 						run merges it into the duration history file; a
+ * 						shard only writes its own report
+ * 						(durationReportDir/shard-iofN.json), which CI
+ * 						merges in one step after all shards finished
+ * 						(see DurationHistory.main).
+ * 2. Planning:       	Greedy bin-packing: longest tests first, each
+ * 						into the currently lightest shard. Shards treat
+ * 						the history as read-only, so every agent
+ * 						computes the same plan from the same file.
+ * 3. Filtering:      	Keeps only this shard's methods in each <test>.
+ * Configuration:     	shard (e.g. 2/4, 1-based; empty = run all),
+ * 						durationHistoryFile, durationReportDir,
+ * 						defaultTestDurationMs.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class ShardingListener implements IMethodInterceptor, ITestListener, IExecutionListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ShardingListener.class);
+
+	private final Path historyFile = Paths.get(ConfigReader.getProperty("durationHistoryFile", "test-durations.json"));
+	private final Map<String, Long> measured = new ConcurrentHashMap<>();
+	// Scheduling units assigned to this shard, planned once per suite
+	private final Map<String, Set<String>> plans = new ConcurrentHashMap<>();
+
+	@Override
+	public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+		int[] shard = shard();
+		if (shard == null) {
+			return methods;
+		}
+		int index = shard[0];
+		int count = shard[1];
+
+		Set<String> mine = plans.computeIfAbsent(context.getSuite().getName(),
+				name -> plan(context.getSuite().getAllMethods(), index, count));
+
+		Set<Class<?>> grouped = classesWithDependencies(context.getSuite().getAllMethods());
+		List<IMethodInstance> selected = new ArrayList<>();
+		for (IMethodInstance instance : methods) {
+			if (mine.contains(unitKey(instance.getMethod(), grouped))) {
+				selected.add(instance);
+			}
+		}
+		LOGGER.info("Shard {}/{}: running {} of {} method(s) in test '{}'", index, count, selected.size(),
+				methods.size(), context.getName());
+		return selected;
+	}
+
+	/** {index, count} from the shard property, or null when not sharded. */
+	private static int[] shard() {
+		String shard = ConfigReader.getProperty("shard", "").trim();
+		if (shard.isEmpty()) {
+			return null;
+		}
+		String[] parts = shard.split("/");
+		int index = Integer.parseInt(parts[0].trim());
+		int count = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 0;
+		if (count < 1 || index < 1 || index > count) {
+			throw new IllegalArgumentException("shard must look like i/N with 1 <= i <= N but was '" + shard + "'");
+		}
+		return new int[] { index, count };
+	}
+
+	/**
+	 * Assigns every unit of the suite to a shard and returns the units of the
+	 * requested one. Ties are broken by name so all agents agree on the plan.
+	 */
+	private Set<String> plan(Collection<ITestNGMethod> allMethods, int index, int count) {
+		Map<String, Long> history = DurationHistory.load(historyFile);
+		Set<Class<?>> grouped = classesWithDependencies(allMethods);
+
+		// Tests without history are assumed to take the average known duration
+		long fallback = Long.parseLong(ConfigReader.getProperty("defaultTestDurationMs", "30000"));
+		if (!history.isEmpty()) {
+			long total = 0;
+			for (long value : history.values()) {
+				total += value;
+			}
+			fallback = total / history.size();
+		}
+
+		Map<String, Long> units = new TreeMap<>();
+		Set<String> seen = new HashSet<>();
+		for (ITestNGMethod method : allMethods) {
+			String key = DurationHistory.key(method);
+			if (seen.add(key)) {
+				Long duration = history.get(key);
+				units.merge(unitKey(method, grouped), duration != null ? duration : fallback, Long::sum);
+			}
+		}
+
+		List<Map.Entry<String, Long>> ordered = new ArrayList<>(units.entrySet());
+		ordered.sort((a, b) -> b.getValue().equals(a.getValue()) ? a.getKey().compareTo(b.getKey())
+				: Long.compare(b.getValue(), a.getValue()));
+
+		long[] loads = new long[count];
+		Map<Integer, Set<String>> assignment = new HashMap<>();
+		for (Map.Entry<String, Long> unit : ordered) {
+			int lightest = 0;
+			for (int i = 1; i < count; i++) {
+				if (loads[i] < loads[lightest]) {
+					lightest = i;
+				}
+			}
+			loads[lightest] += unit.getValue();
+			assignment.computeIfAbsent(lightest, key -> new HashSet<>()).add(unit.getKey());
+		}
+
+		for (int i = 0; i < count; i++) {
+			Set<String> shardUnits = assignment.getOrDefault(i, new HashSet<>());
+			LOGGER.info("Shard {}/{} plan: {} unit(s), ~{}s{}", i + 1, count, shardUnits.size(), loads[i] / 1000,
+					i + 1 == index ? " (this agent)" : "");
+		}
+		return assignment.getOrDefault(index - 1, new HashSet<>());
+	}
+
+	/**
+	 * Methods are scheduled individually, except that a class using
+	 * dependsOnMethods/dependsOnGroups stays together on one shard.
+	 */
+	private static String unitKey(ITestNGMethod method, Set<Class<?>> grouped) {
+		return grouped.contains(method.getRealClass()) ? method.getRealClass().getName()
+				: DurationHistory.key(method);
+	}
+
+	private static Set<Class<?>> classesWithDependencies(Collection<ITestNGMethod> methods) {
+		Set<Class<?>> classes = new HashSet<>();
+		for (ITestNGMethod method : methods) {
+			if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+				classes.add(method.getRealClass());
+			}
+		}
+		return classes;
+	}
+
+	@Override
+	public void onTestSuccess(ITestResult result) {
+		record(result);
+	}
+
+	@Override
+	public void onTestFailure(ITestResult result) {
+		record(result);
+	}
+
+	// Data-provider invocations add up to the method's total duration
+	private void record(ITestResult result) {
+		measured.merge(DurationHistory.key(result.getMethod()), result.getEndMillis() - result.getStartMillis(),
+				Long::sum);
+	}
+
+	@Override
+	public void onExecutionFinish() {
+		int[] shard = shard();
+		if (shard == null) {
+			// The only writer: update the history directly
+			DurationHistory.merge(historyFile, measured);
+		} else {
+			// Other shards plan from the same history, so leave it untouched
+			Path dir = Paths.get(ConfigReader.getProperty("durationReportDir", "target/test-durations"));
+			DurationHistory.writeReport(dir.resolve("shard-" + shard[0] + "of" + shard[1] + ".json"), measured);
+		}
+	}
+}
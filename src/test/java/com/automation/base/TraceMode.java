@@ -0,0 +1,42 @@
+package com.automation.base;
+
+/**
+ * Playwright trace recording policy, selected with the 'tracing' property.
+ * <ul>
+ * <li>OFF - never record.</li>
+ * <li>ON_FIRST_RETRY - record only the first retry of a failed test, so passing
+ * tests never pay the snapshot cost.</li>
+ * <li>RETAIN_ON_FAILURE - record every test, keep the trace only on failure.</li>
+ * <li>ALWAYS - record and keep the trace for every test.</li>
+ * </ul>
+ */
+public enum TraceMode {
+	OFF, ON_FIRST_RETRY, RETAIN_ON_FAILURE, ALWAYS;
+
+	/** Parses config values such as "retain-on-failure" or "ALWAYS". */
+	public static TraceMode fromConfig(String value) {
+		try {
+			return valueOf(value.trim().toUpperCase().replace('-', '_'));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(
+					"Unknown tracing mode '" + value + "'. Use off, on-first-retry, retain-on-failure or always.");
+		}
+	}
+
+	/** Whether a test on the given retry attempt (0 = first run) should be recorded. */
+	public boolean shouldRecord(int retryAttempt) {
+		switch (this) {
+		case OFF:
+			return false;
+		case ON_FIRST_RETRY:
+			return retryAttempt == 1;
+		default:
+			return true;
+		}
+	}
+
+	/** Whether a recorded trace should be saved and attached. */
+	public boolean shouldKeep(boolean testPassed) {
+		return this == ALWAYS || !testPassed;
+	}
+}
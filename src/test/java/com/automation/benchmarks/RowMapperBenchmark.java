@@ -0,0 +1,89 @@
+package com.automation.benchmarks;
+
+import com.automation.models.FormData;
+import com.automation.utils.RowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	RowMapperBenchmark
+ * Description:       	JMH comparison of header-driven RowMapper against
+ * 						the positional FormData constructor call it
+ * 						replaced in CsvUtil.
+ * Benchmarks:
+ * - positional:      	new FormData(row[0], ..., row[10])
+ * - rowMapper:       	RowMapper bound once to the CSV header, then
+ * 						map(row) per row (MethodHandle invokeExact).
+ * - bindAndMap:      	Binding cost included, i.e. a one-row file.
+ * Run (forks need the test classpath, so use exec:exec):
+ * mvn test-compile exec:exec -Dexec.executable=java
+ *     -Dexec.classpathScope=test -Dexec.args="-cp %classpath
+ *     com.automation.benchmarks.RowMapperBenchmark"
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RowMapperBenchmark {
+
+	// Header as in src/test/resources/data/input_form_data.csv
+	private static final String[] HEADER = { "Name", "Email", "Password", "Company", "Website", "Country", "City",
+			"Address1", "Address2", "State", "Zip" };
+
+	private String[][] rows;
+	private RowMapper<FormData> mapper;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		rows = new String[1024][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = new String[] { "User " + i, "user" + i + "@test.com", "Pass" + i, "Acme", "https://acme.com",
+					"United States", "New York", i + " Broadway", "Suite " + i, "NY", String.valueOf(10000 + i) };
+		}
+		mapper = RowMapper.bind(FormData.class, HEADER);
+	}
+
+	private String[] nextRow() {
+		return rows[next++ & (rows.length - 1)];
+	}
+
+	@Benchmark
+	public FormData positional() {
+		String[] row = nextRow();
+		return new FormData(row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7], row[8], row[9], row[10]);
+	}
+
+	@Benchmark
+	public FormData rowMapper() {
+		return mapper.map(nextRow());
+	}
+
+	@Benchmark
+	public FormData bindAndMap() {
+		return RowMapper.bind(FormData.class, HEADER).map(nextRow());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RowMapperBenchmark.class.getSimpleName()).build()).run();
+	}
+}
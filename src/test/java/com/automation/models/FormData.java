@@ -1,5 +1,7 @@
 package com.automation.models;
 
+import com.automation.utils.CsvAlias;
+
 public class FormData {
 	
 	private String name;
@@ -12,6 +14,7 @@ public class FormData {
     private String address1;
     private String address2;
     private String state;
+    @CsvAlias("Zip")
     private String zipCode;
 
     
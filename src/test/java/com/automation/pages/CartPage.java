@@ -11,52 +11,92 @@ import org.slf4j.LoggerFactory;
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
 import java.lang.Math;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 public class CartPage {
   private final Page page;
   
   private static final Logger LOGGER = LoggerFactory.getLogger(CartPage.class);
 
+  // Everything that is not part of the number, e.g. "$1,000.00" -> "1000.00"
+  private static final Pattern NON_PRICE_CHARS = Pattern.compile("[^\\d.]");
+
+  // Reads every product row of the cart table in one call. Columns: image,
+  // name, model, quantity (text input), unit price, total.
+  private static final String READ_CART_SCRIPT = "() => Array.from(document.querySelectorAll('#content table tbody tr'))"
+      + "  .filter(tr => tr.cells.length >= 6 && tr.querySelector(\"input[type='text']\"))"
+      + "  .map(tr => ({"
+      + "    name: (tr.cells[1].querySelector('a') || tr.cells[1]).textContent.trim(),"
+      + "    quantity: tr.querySelector(\"input[type='text']\").value,"
+      + "    unitPrice: tr.cells[4].textContent,"
+      + "    total: tr.cells[5].textContent"
+      + "  }))";
+
   public CartPage(Page page) {
     this.page = page;
   }
 
   // 1. Helper Method (Private)
   private double parsePrice(String priceText) {
-    return Double.parseDouble(priceText.replaceAll("[^\\d.]", ""));
+    return Double.parseDouble(NON_PRICE_CHARS.matcher(priceText).replaceAll(""));
   }
 
-  // 2. Locator Helper (Private)
-  // Finds the specific row for the product we are testing
-  private Locator getProductRow(String productName) {
-    return page.getByRole(AriaRole.ROW).filter(new Locator.FilterOptions().setHasText(productName)).last();
+  // 2. Public Methods to Get Data
+  // Reads the whole cart table once into typed rows
+  public CartSnapshot snapshot() {
+    // Wait until at least one product row (one with a quantity input) is rendered
+    page.getByRole(AriaRole.ROW).filter(new Locator.FilterOptions().setHas(page.locator("input[type='text']")))
+        .first().waitFor();
+
+    List<CartSnapshot.Row> rows = new ArrayList<>();
+    for (Object raw : (List<?>) page.evaluate(READ_CART_SCRIPT)) {
+      Map<?, ?> cells = (Map<?, ?>) raw;
+      rows.add(new CartSnapshot.Row((String) cells.get("name"), parsePrice((String) cells.get("unitPrice")),
+          Integer.parseInt(((String) cells.get("quantity")).trim()), parsePrice((String) cells.get("total"))));
+    }
+    return new CartSnapshot(rows);
   }
 
-  // 3. Public Methods to Get Data
   public double getUnitPrice(String productName) {
-    String text = getProductRow(productName).locator("td").nth(4).textContent();
-    return parsePrice(text);
+    return snapshot().getRow(productName).getUnitPrice();
   }
 
   public int getQuantity(String productName) {
-    String text = getProductRow(productName).locator("input[type='text']").inputValue();
-    return Integer.parseInt(text);
+    return snapshot().getRow(productName).getQuantity();
   }
 
   public double getActualTotal(String productName) {
-    String text = getProductRow(productName).locator("td").nth(5).textContent();
-    return parsePrice(text);
+    return snapshot().getRow(productName).getTotal();
   }
 
-  // 4. Business Logic Verification
+  // 3. Business Logic Verification
   public void verifyPriceCalculation(String productName) {
     // System.out.println("Verifying price calculation for " + productName + "...");
 	Allure.step("Verifying price calculation for " + productName, ()->{
 		LOGGER.info("Verifying price calculation for {} ...", productName);
 	    
-	    double unitPrice = getUnitPrice(productName);
-	    int quantity = getQuantity(productName);
-	    double actualTotal = getActualTotal(productName);
+	    verifyRowTotal(snapshot().getRow(productName));
+	});
+  }
+
+  // Verifies every product line of a (multi-product) cart from a single read
+  public void verifyAllPriceCalculations() {
+	Allure.step("Verifying price calculation for all cart rows", ()->{
+		CartSnapshot cart = snapshot();
+		LOGGER.info("Verifying price calculation for {} cart row(s) ...", cart.getRows().size());
+		for (CartSnapshot.Row row : cart.getRows()) {
+			verifyRowTotal(row);
+		}
+	});
+  }
+
+  private void verifyRowTotal(CartSnapshot.Row row) {
+	    double unitPrice = row.getUnitPrice();
+	    int quantity = row.getQuantity();
+	    double actualTotal = row.getTotal();
 	    double expectedTotal = unitPrice * quantity;
 	    
 	    //System.out.println("Unit: " + unitPrice + " | Qty: " + quantity + " | Total: " + actualTotal);
@@ -72,10 +112,9 @@ public class CartPage {
 	    }
 	    //System.out.println("Price calculation verified.");
 	    LOGGER.info("Price calculation verified.");
-	});
   }
 
-  // 5. Cleanup Action
+  // 4. Cleanup Action
   public void cleanupAndReturn(String productName) {
 	  Allure.step("Remove " + productName + " and return to Home", ()->{
 		  LOGGER.info("Cleaning up cart...");
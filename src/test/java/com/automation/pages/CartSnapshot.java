@@ -0,0 +1,69 @@
+package com.automation.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the shopping cart table, read in a single round trip by
+ * {@link CartPage#snapshot()}. Verify as many rows as needed without going
+ * back to the browser.
+ */
+public class CartSnapshot {
+
+  /** One product line of the cart. */
+  public static final class Row {
+    private final String name;
+    private final double unitPrice;
+    private final int quantity;
+    private final double total;
+
+    Row(String name, double unitPrice, int quantity, double total) {
+      this.name = name;
+      this.unitPrice = unitPrice;
+      this.quantity = quantity;
+      this.total = total;
+    }
+
+    public String getName() { return name; }
+    public double getUnitPrice() { return unitPrice; }
+    public int getQuantity() { return quantity; }
+    public double getTotal() { return total; }
+
+    @Override
+    public String toString() {
+      return name + " (Unit: " + unitPrice + " | Qty: " + quantity + " | Total: " + total + ")";
+    }
+  }
+
+  private final List<Row> rows;
+
+  CartSnapshot(List<Row> rows) {
+    this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+  }
+
+  public List<Row> getRows() {
+    return rows;
+  }
+
+  public boolean isEmpty() {
+    return rows.isEmpty();
+  }
+
+  /**
+   * Returns the row whose product name contains the given text. Like the row
+   * locator it replaces, the last match wins.
+   */
+  public Row getRow(String productName) {
+    Row match = null;
+    for (Row row : rows) {
+      if (row.name.contains(productName)) {
+        match = row;
+      }
+    }
+    if (match == null) {
+      throw new RuntimeException("Product '" + productName + "' is not in the cart. Cart rows: " + rows);
+    }
+    return match;
+  }
+}
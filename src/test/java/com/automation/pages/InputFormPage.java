@@ -4,38 +4,135 @@ import com.automation.models.FormData;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
-import java.util.List; 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public class InputFormPage {
+
+	/**
+	 * STRICT fills field by field through Playwright (real typing, actionability
+	 * checks per field). BATCHED sets every field in one in-page call.
+	 */
+	public enum FillMode {
+		STRICT, BATCHED
+	}
+
+	/**
+	 * One form field, defined once for both fill modes: STRICT fills its
+	 * Playwright locator, BATCHED its CSS equivalent. A placeholder maps to
+	 * getByPlaceholder (exact, or case-insensitive substring like Playwright) and
+	 * to [placeholder='..'] / [placeholder*='..' i]; a select uses its CSS as is.
+	 */
+	private static final class Field {
+		private final String placeholder;
+		private final boolean exact;
+		private final String selectCss;
+		private final Function<FormData, String> value;
+
+		private Field(String placeholder, boolean exact, String selectCss, Function<FormData, String> value) {
+			this.placeholder = placeholder;
+			this.exact = exact;
+			this.selectCss = selectCss;
+			this.value = value;
+		}
+
+		static Field exact(String placeholder, Function<FormData, String> value) {
+			return new Field(placeholder, true, null, value);
+		}
+
+		static Field placeholder(String placeholder, Function<FormData, String> value) {
+			return new Field(placeholder, false, null, value);
+		}
+
+		static Field select(String css, Function<FormData, String> value) {
+			return new Field(null, false, css, value);
+		}
+
+		boolean isSelect() {
+			return selectCss != null;
+		}
+
+		Locator locator(Page page) {
+			if (isSelect()) {
+				return page.locator(selectCss);
+			}
+			return page.getByPlaceholder(placeholder, new Page.GetByPlaceholderOptions().setExact(exact));
+		}
+
+		String cssSelector() {
+			if (isSelect()) {
+				return selectCss;
+			}
+			String quoted = "'" + placeholder.replace("'", "\\'") + "'";
+			return exact ? "[placeholder=" + quoted + "]" : "[placeholder*=" + quoted + " i]";
+		}
+	}
+
+	// Every field in fill order (see Field)
+	private static final Field COUNTRY = Field.select("select[name='country']", FormData::getCountry);
+	private static final List<Field> FIELDS = Arrays.asList(
+			Field.exact("Name", FormData::getName),
+			Field.exact("Email", FormData::getEmail),
+			Field.placeholder("Password", FormData::getPassword),
+			Field.placeholder("Company", FormData::getCompany),
+			Field.placeholder("Website", FormData::getWebsite),
+			// Must match an option value or label exactly (e.g. "United States" or "US")
+			COUNTRY,
+			Field.placeholder("City", FormData::getCity),
+			Field.placeholder("Address 1", FormData::getAddress1),
+			Field.placeholder("Address 2", FormData::getAddress2),
+			Field.placeholder("State", FormData::getState),
+			Field.placeholder("Zip Code", FormData::getZipCode));
+
+	// Resolves every selector first (exactly one enabled match each, like
+	// Playwright's strict mode), then sets the values through the native setter
+	// and fires input/change so the page's own listeners run.
+	private static final String BATCH_FILL_SCRIPT = "fields => {"
+			+ "  const targets = fields.map(f => {"
+			+ "    const matches = document.querySelectorAll(f.selector);"
+			+ "    if (matches.length !== 1) {"
+			+ "      throw new Error('strict mode violation: ' + f.selector + ' resolved to ' + matches.length + ' elements');"
+			+ "    }"
+			+ "    const el = matches[0];"
+			+ "    if (el.disabled || el.readOnly) { throw new Error(f.selector + ' is not editable'); }"
+			+ "    return { el: el, value: f.value };"
+			+ "  });"
+			+ "  for (const t of targets) {"
+			+ "    const el = t.el;"
+			+ "    el.focus();"
+			+ "    if (el.tagName === 'SELECT') {"
+			+ "      const option = Array.from(el.options)"
+			+ "        .find(o => o.value === t.value || o.label === t.value || o.text.trim() === t.value);"
+			+ "      if (!option) { throw new Error('No option \"' + t.value + '\" in ' + el.name); }"
+			+ "      el.value = option.value;"
+			+ "    } else {"
+			+ "      const proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+			+ "      Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, t.value);"
+			+ "    }"
+			+ "    el.dispatchEvent(new Event('input', { bubbles: true }));"
+			+ "    el.dispatchEvent(new Event('change', { bubbles: true }));"
+			+ "    el.blur();"
+			+ "  }"
+			+ "}";
+
 	private final Page page;
 	
-	private final Locator nameInput;
-    private final Locator emailInput;
-    private final Locator passwordInput;
-    private final Locator companyInput;
-    private final Locator websiteInput;
+	// One locator per entry of FIELDS, same order
+	private final List<Locator> fieldInputs = new ArrayList<>();
     private final Locator countrySelect;
-    private final Locator cityInput;
-    private final Locator address1Input;
-    private final Locator address2Input;
-    private final Locator stateInput;
-    private final Locator zipInput;
     private final Locator submitButton;
     private final Locator successMessage;
     
     public InputFormPage(Page page) {
         this.page = page;
-        this.nameInput = page.getByPlaceholder("Name", new Page.GetByPlaceholderOptions().setExact(true));
-        this.emailInput = page.getByPlaceholder("Email", new Page.GetByPlaceholderOptions().setExact(true));
-        this.passwordInput = page.getByPlaceholder("Password");
-        this.companyInput = page.getByPlaceholder("Company");
-        this.websiteInput = page.getByPlaceholder("Website");
-        this.countrySelect = page.locator("select[name='country']");
-        this.cityInput = page.getByPlaceholder("City");
-        this.address1Input = page.getByPlaceholder("Address 1");
-        this.address2Input = page.getByPlaceholder("Address 2");
-        this.stateInput = page.getByPlaceholder("State");
-        this.zipInput = page.getByPlaceholder("Zip Code");
+        for (Field field : FIELDS) {
+            fieldInputs.add(field.locator(page));
+        }
+        this.countrySelect = fieldInputs.get(FIELDS.indexOf(COUNTRY));
         
         this.submitButton = page.getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Submit"));
         this.successMessage = page.locator(".success-msg");
@@ -47,27 +144,43 @@ public class InputFormPage {
 
     	// The Professional Method: Takes a POJO instead of a list of strings
     	public void submitForm(FormData data) {
-    	 System.out.println("Submitting form for: " + data.getEmail());
-    	        
-    	 nameInput.fill(data.getName());
-    	 emailInput.fill(data.getEmail());
-    	 passwordInput.fill(data.getPassword());
-    	 companyInput.fill(data.getCompany());
-    	 websiteInput.fill(data.getWebsite());
-
-    	 // Dynamically select the country from the data object
-    	 // NOTE: This must match an option value or label exactly (e.g., "United States" or "US")
-    	 countrySelect.selectOption(data.getCountry());
+    	 submitForm(data, FillMode.STRICT);
+    	}
+
+    	public void submitForm(FormData data, FillMode mode) {
+    	 System.out.println("Submitting form for: " + data.getEmail() + " (" + mode + ")");
+
+    	 if (mode == FillMode.BATCHED) {
+    	  fillBatched(data);
+    	  submitButton.click();
+    	  return;
+    	 }
     	        
-    	 cityInput.fill(data.getCity());
-    	 address1Input.fill(data.getAddress1());
-    	 address2Input.fill(data.getAddress2());
-    	 stateInput.fill(data.getState());
-    	 zipInput.fill(data.getZipCode());
+    	 for (int i = 0; i < FIELDS.size(); i++) {
+    	  Field field = FIELDS.get(i);
+    	  if (field.isSelect()) {
+    	   // Dynamically select the country from the data object
+    	   fieldInputs.get(i).selectOption(field.value.apply(data));
+    	  } else {
+    	   fieldInputs.get(i).fill(field.value.apply(data));
+    	  }
+    	 }
     	 
     	 submitButton.click();
     	}
     	
+    	// One round trip for all fields instead of one per fill/selectOption
+    	private void fillBatched(FormData data) {
+    	 List<Map<String, String>> fields = new ArrayList<>();
+    	 for (Field field : FIELDS) {
+    	  Map<String, String> entry = new HashMap<>();
+    	  entry.put("selector", field.cssSelector());
+    	  entry.put("value", field.value.apply(data));
+    	  fields.add(entry);
+    	 }
+    	 page.evaluate(BATCH_FILL_SCRIPT, fields);
+    	}
+
     	// Returns all valid country options as a list of strings
     	public List<String> getCountryOptions() {
     		return countrySelect.locator("option").allInnerTexts();
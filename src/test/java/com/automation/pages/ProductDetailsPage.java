@@ -3,7 +3,6 @@ package com.automation.pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
-import com.microsoft.playwright.options.LoadState;
 
 import io.qameta.allure.Allure;
 
@@ -19,7 +18,7 @@ import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertTha
  * 						for a single item.
  * Responsibilities:
  * 1. Quantity:       	Handles increasing item quantity 
- * 						(including network waits).
+ * 						(waiting until the page's scripts are ready).
  * 2. Purchasing:     	Adds items to the cart.
  * 3. Navigation:     	Validates success messages and navigates 
  * 						to the Cart.
@@ -46,9 +45,11 @@ public class ProductDetailsPage {
     public void increaseQuantity(int times) {
     	Allure.step("Increasing quantity " + times + " times", ()->{
     		LOGGER.info("Increasing quantity...");
-            // FIX: The network wait we added in Act II to prevent the click from failing
-            // We encapsulate it here so the test script doesn't need to know about it.
-            page.waitForLoadState(LoadState.NETWORKIDLE);
+            // FIX: The wait we added in Act II to prevent the click from failing
+            // (handlers not bound yet). Event-driven instead of NETWORKIDLE: the
+            // load event plus no jQuery AJAX in flight.
+            Readiness.loaded(page);
+            Readiness.ajaxSettled(page);
             
             for (int i = 0; i < times; i++) {
                 increaseQuantityBtn.click();
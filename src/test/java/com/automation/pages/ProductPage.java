@@ -3,6 +3,7 @@ package com.automation.pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.AriaRole;
+import com.automation.utils.ConfigReader;
 
 import io.qameta.allure.Allure;
 
@@ -11,6 +12,8 @@ import com.microsoft.playwright.assertions.LocatorAssertions; // For IsVisibleOp
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.regex.Pattern;
+
 
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
 
@@ -32,17 +35,23 @@ import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertTha
 
 public class ProductPage {
     private final Page page;
-    private final Locator minSlider;
+    private final SliderComponent priceSlider;
     private final Locator inStockFilter;
     private final Locator resultsTextSlider;
     private final Locator resultsTextInStock;
+    private final Locator resultsSummary;
     private final Locator macBookProLink;
     private static final Logger LOGGER = LoggerFactory.getLogger(ProductPage.class);
 
+    // The journey's lower price bound: 902 slider steps above the slider minimum
+    private static final int MIN_PRICE_STEPS = 902;
+
     public ProductPage(Page page) {
         this.page = page;
-        // FIX: The robust technical locator we found via debugging for the slider handle
-        this.minSlider = page.locator("#mz-filter-panel-0-0 .ui-slider-handle").first();
+        // FIX: The robust technical locator we found via debugging for the slider
+        // (drag by default; -DsliderMode=keyboard steps it with arrow keys instead)
+        this.priceSlider = new SliderComponent(page, page.locator("#mz-filter-panel-0-0 .ui-slider").first(),
+                SliderComponent.Mode.fromConfig(ConfigReader.getProperty("sliderMode", "drag")));
         
         // FIX: The robust technical locator for the dynamic "In Stock" filter ID
         this.inStockFilter = page.locator("[id^='mz-filter-panel-0-']").getByText("In stock").first();
@@ -51,6 +60,8 @@ public class ProductPage {
         // We wait for specific text to ensure the filter has FINISHED updating.
         this.resultsTextSlider = page.getByText("Showing 1 to 5 of 5 (1 Pages)");
         this.resultsTextInStock = page.getByText("Showing 1 to 2 of 2 (1 Pages)");
+        // Whatever the current "Showing x to y of z" summary is (changes when a filter applies)
+        this.resultsSummary = page.getByText(Pattern.compile("^Showing \\d+ to \\d+ of \\d+")).first();
         
         // Product link with exact match
         this.macBookProLink = page.getByRole(AriaRole.LINK, new Page.GetByRoleOptions().setName("MacBook Pro").setExact(true));
@@ -59,11 +70,8 @@ public class ProductPage {
     public void filterByPrice() {
         Allure.step("Filter by Price Range",()->{
         	LOGGER.info("Filtering price slider...");
-            minSlider.focus();
-            // Use the keyboard interaction loop we perfected
-            for (int i = 0; i < 902; i++) {
-                minSlider.press("ArrowRight");
-            }
+            SliderComponent.State state = priceSlider.read();
+            priceSlider.setMin(state.getMin() + MIN_PRICE_STEPS * state.getStep());
             // Assert: Wait for filter to apply using the specific text
             assertThat(resultsTextSlider).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(10000));
         });
@@ -72,10 +80,9 @@ public class ProductPage {
     public void filterByInStock() {
         Allure.step("Filter by 'In Stock' status", ()->{
         	LOGGER.info("Filtering by 'In Stock'...");
-            // Ensure element is visible before interacting
-            inStockFilter.evaluate("element => element.scrollIntoView({ behavior: 'smooth', block: 'center' })");
-            page.waitForTimeout(500); 
-            inStockFilter.click();
+            // click() scrolls the filter into view itself; wait for the product
+            // count to change instead of a fixed sleep
+            Readiness.afterTextChange(resultsSummary, () -> inStockFilter.click());
             
             // Assert: Wait for filter to apply using the specific text
             assertThat(resultsTextInStock).isVisible(new LocatorAssertions.IsVisibleOptions().setTimeout(10000));
@@ -0,0 +1,104 @@
+package com.automation.pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.options.LoadState;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Predicate;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	Readiness
+ * Description:       	Event-driven waits for page objects, used instead
+ * 						of fixed sleeps and NETWORKIDLE.
+ * Responsibilities:
+ * 1. Responses:      	Runs an action and waits for the response it
+ * 						triggers (e.g. a filter AJAX call).
+ * 2. DOM changes:    	Runs an action and waits until an element's text
+ * 						or count changes (e.g. the product count).
+ * 3. Predicates:     	Waits for an arbitrary in-page condition.
+ * Note:              	Each wait returns as soon as its signal arrives;
+ * 						NETWORKIDLE always costs 500ms of silence and
+ * 						never settles on pages with analytics beacons.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+
+
+public final class Readiness {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Readiness.class);
+
+    private static final double DEFAULT_TIMEOUT_MS = 10_000;
+
+    private Readiness() {
+    }
+
+    /**
+     * Runs the action and waits for the first successful response whose URL
+     * contains the given fragment.
+     */
+    public static Response afterResponse(Page page, String urlFragment, Runnable action) {
+        return afterResponse(page, response -> response.url().contains(urlFragment) && response.ok(), action);
+    }
+
+    /** Runs the action and waits for the first response matching the predicate. */
+    public static Response afterResponse(Page page, Predicate<Response> matcher, Runnable action) {
+        long start = System.currentTimeMillis();
+        Response response = page.waitForResponse(matcher::test,
+                new Page.WaitForResponseOptions().setTimeout(DEFAULT_TIMEOUT_MS), action);
+        LOGGER.debug("Response {} arrived after {}ms", response.url(), System.currentTimeMillis() - start);
+        return response;
+    }
+
+    /**
+     * Runs the action and waits until the element's text differs from what it
+     * was before, e.g. a "Showing 1 to 15 of 75" results summary.
+     */
+    public static void afterTextChange(Locator locator, Runnable action) {
+        String before = locator.textContent();
+        action.run();
+        assertThat(locator).not().hasText(before == null ? "" : before,
+                new LocatorAssertions.HasTextOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+    }
+
+    /** Runs the action and waits until the number of matching elements changes. */
+    public static void afterCountChange(Locator locator, Runnable action) {
+        int before = locator.count();
+        action.run();
+        assertThat(locator).not().hasCount(before,
+                new LocatorAssertions.HasCountOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+    }
+
+    /**
+     * Waits until the JavaScript predicate (e.g. "() =>
+     * document.querySelectorAll('.product-layout').length > 0") is truthy.
+     */
+    public static void until(Page page, String predicate) {
+        page.waitForFunction(predicate, null, new Page.WaitForFunctionOptions().setTimeout(DEFAULT_TIMEOUT_MS));
+    }
+
+    /**
+     * Waits until jQuery has no AJAX request in flight. Unlike NETWORKIDLE this
+     * ignores analytics beacons and returns at once when the page is quiet.
+     */
+    public static void ajaxSettled(Page page) {
+        until(page, "() => !window.jQuery || window.jQuery.active === 0");
+    }
+
+    /**
+     * Waits for the load event, i.e. scripts have run and their handlers are
+     * bound. Returns immediately when the page has already loaded.
+     */
+    public static void loaded(Page page) {
+        page.waitForLoadState(LoadState.LOAD);
+    }
+}
@@ -0,0 +1,199 @@
+package com.automation.pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Mouse;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.BoundingBox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	SliderComponent
+ * Description:       	Drives a jQuery UI slider (single or range) to a
+ * 						target value.
+ * Responsibilities:
+ * 1. State:          	Reads min/max/step and the handle values from
+ * 						the widget in one evaluate.
+ * 2. DRAG mode:      	Computes the pixel position of the target value
+ * 						and drags the handle there in one gesture, then
+ * 						corrects any pixel rounding with a few key
+ * 						presses.
+ * 3. KEYBOARD mode:  	Fallback: steps the handle with arrow keys, one
+ * 						round trip per step.
+ * 4. Verification:   	Reads the value back and fails if it is not the
+ * 						target.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+
+
+public class SliderComponent {
+
+    public enum Mode {
+        DRAG, KEYBOARD;
+
+        /** Parses config values such as "drag" or "KEYBOARD". */
+        public static Mode fromConfig(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown slider mode '" + value + "'. Use drag or keyboard.");
+            }
+        }
+    }
+
+    /** Snapshot of the slider options and handle values. */
+    public static final class State {
+        private final double min;
+        private final double max;
+        private final double step;
+        private final double[] values;
+
+        private State(double min, double max, double step, double[] values) {
+            this.min = min;
+            this.max = max;
+            this.step = step;
+            this.values = values;
+        }
+
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+        public double getStep() { return step; }
+        public double getValue(int handleIndex) { return values[handleIndex]; }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SliderComponent.class);
+
+    // Drag lands within a pixel of the target; anything further off means the
+    // drag did not take and is reported instead of stepped through key by key
+    private static final int MAX_CORRECTION_PRESSES = 50;
+
+    private static final String READ_STATE_SCRIPT = "el => {"
+            + "  const $ = window.jQuery;"
+            + "  if (!$ || !$.fn.slider) { return null; }"
+            + "  const s = $(el);"
+            + "  const values = s.slider('values');"
+            + "  return { min: s.slider('option', 'min'), max: s.slider('option', 'max'),"
+            + "           step: s.slider('option', 'step'),"
+            + "           values: values.length ? values : [s.slider('value')] };"
+            + "}";
+
+    private final Page page;
+    private final Locator track;
+    private final Mode mode;
+
+    /**
+     * @param track the slider element (the one carrying the ui-slider class)
+     */
+    public SliderComponent(Page page, Locator track, Mode mode) {
+        this.page = page;
+        this.track = track;
+        this.mode = mode;
+    }
+
+    public State read() {
+        Object raw = track.evaluate(READ_STATE_SCRIPT);
+        if (!(raw instanceof Map)) {
+            throw new RuntimeException("Element is not a jQuery UI slider: " + track);
+        }
+        Map<?, ?> state = (Map<?, ?>) raw;
+        List<?> rawValues = (List<?>) state.get("values");
+        double[] values = new double[rawValues.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ((Number) rawValues.get(i)).doubleValue();
+        }
+        return new State(((Number) state.get("min")).doubleValue(), ((Number) state.get("max")).doubleValue(),
+                ((Number) state.get("step")).doubleValue(), values);
+    }
+
+    /** Moves the lower (or only) handle to the target value. */
+    public void setMin(double target) {
+        setValue(0, target);
+    }
+
+    /** Moves the upper handle of a range slider to the target value. */
+    public void setMax(double target) {
+        setValue(1, target);
+    }
+
+    /** Moves both handles of a range slider. */
+    public void setRange(double min, double max) {
+        // Move the handle that cannot collide with the other one first
+        if (min > read().getValue(1)) {
+            setMax(max);
+            setMin(min);
+        } else {
+            setMin(min);
+            setMax(max);
+        }
+    }
+
+    public void setValue(int handleIndex, double target) {
+        State state = read();
+        if (target < state.min || target > state.max) {
+            throw new IllegalArgumentException(
+                    "Slider value " + target + " is outside the range [" + state.min + ", " + state.max + "]");
+        }
+        Locator handle = track.locator(".ui-slider-handle").nth(handleIndex);
+
+        if (mode == Mode.DRAG) {
+            drag(handle, state, target);
+            state = read();
+            int corrections = stepsBetween(state.getValue(handleIndex), target, state.step);
+            if (Math.abs(corrections) > MAX_CORRECTION_PRESSES) {
+                throw new RuntimeException("Slider drag landed at " + state.getValue(handleIndex) + ", too far from "
+                        + target + " to correct with the keyboard");
+            }
+            pressSteps(handle, corrections);
+        } else {
+            pressSteps(handle, stepsBetween(state.getValue(handleIndex), target, state.step));
+        }
+
+        // Verify: the widget must report the requested value
+        double actual = read().getValue(handleIndex);
+        if (Math.abs(actual - target) > state.step / 2) {
+            throw new RuntimeException("Slider handle " + handleIndex + " is at " + actual + " but expected " + target);
+        }
+        LOGGER.info("Slider handle {} set to {} ({} mode)", handleIndex, actual, mode);
+    }
+
+    private void drag(Locator handle, State state, double target) {
+        handle.scrollIntoViewIfNeeded();
+        BoundingBox trackBox = track.boundingBox();
+        BoundingBox handleBox = handle.boundingBox();
+        if (trackBox == null || handleBox == null) {
+            throw new RuntimeException("Slider is not visible, cannot drag it");
+        }
+
+        // jQuery UI maps the pointer position across the track width to [min, max]
+        double ratio = (target - state.min) / (state.max - state.min);
+        double targetX = trackBox.x + trackBox.width * ratio;
+        double y = handleBox.y + handleBox.height / 2;
+
+        page.mouse().move(handleBox.x + handleBox.width / 2, y);
+        page.mouse().down();
+        page.mouse().move(targetX, y, new Mouse.MoveOptions().setSteps(5));
+        page.mouse().up();
+    }
+
+    private static void pressSteps(Locator handle, int steps) {
+        if (steps == 0) {
+            return;
+        }
+        handle.focus();
+        String key = steps > 0 ? "ArrowRight" : "ArrowLeft";
+        for (int i = 0; i < Math.abs(steps); i++) {
+            handle.press(key);
+        }
+    }
+
+    private static int stepsBetween(double from, double to, double step) {
+        return (int) Math.round((to - from) / step);
+    }
+}
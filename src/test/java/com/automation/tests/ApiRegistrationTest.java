@@ -0,0 +1,52 @@
+package com.automation.tests;
+
+import com.automation.base.BaseApiTest;
+import com.automation.base.LocalOpenCartServer;
+import com.automation.utils.APIService;
+import com.automation.utils.TestDataFactory;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.options.RequestOptions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class ApiRegistrationTest extends BaseApiTest {
+
+	private LocalOpenCartServer server;
+
+	@BeforeClass
+	public void startServer() {
+		// The local stand-in logs customers in after registration, like OpenCart
+		server = new LocalOpenCartServer(0, 4);
+	}
+
+	@Test
+	public void registerTwoUsersInARowOnOneWorker() {
+		// 1. Two registrations on the same (shared) request context
+		try (APIService apiService = new APIService(getPlaywright(), server.getBaseUrl())) {
+			apiService.registerUser(TestDataFactory.createUser());
+			apiService.registerUser(TestDataFactory.createUser());
+		}
+
+		// 2. A new service on this worker reuses the context and starts anonymous
+		try (APIService apiService = new APIService(getPlaywright(), server.getBaseUrl())) {
+			apiService.registerUser(TestDataFactory.createUser());
+		}
+
+		// 3. The worker's default context never saw those logins
+		APIResponse response = apiContext(server.getBaseUrl(), null).get("index.php?route=account/account",
+				RequestOptions.create().setMaxRedirects(0));
+		Assert.assertEquals(response.status(), 302, "Anonymous context should be sent to the login page");
+		Assert.assertTrue(response.headers().get("location").contains("route=account/login"),
+				"Unexpected redirect: " + response.headers().get("location"));
+	}
+
+	@AfterClass(alwaysRun = true)
+	public void stopServer() {
+		if (server != null) {
+			server.close();
+		}
+	}
+
+} // end of class
@@ -25,7 +25,7 @@ public class AuthDialogLoginTest extends BaseTest {
 		// 2. Create a new context with these credentials injected
 		// This tells Playwright: "If challenged, use this username/password"
 		LOGGER.info("Creating BrowserContext with pre-emptive credentials...");
-		BrowserContext authContext = browser
+		BrowserContext authContext = getBrowser()
 				.newContext(new Browser.NewContextOptions().setHttpCredentials(credentials));
 
 		// 3. Create page and navigate
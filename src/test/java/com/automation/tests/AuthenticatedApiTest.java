@@ -1,29 +1,26 @@
 package com.automation.tests;
 
-import com.microsoft.playwright.APIRequest;
+import com.automation.base.BaseApiTest;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
-import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.options.RequestOptions;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.testng.Assert;
-import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 
-public class AuthenticatedApiTest {
+public class AuthenticatedApiTest extends BaseApiTest {
 
-	private Playwright playwright;
-	private APIRequestContext apiContext;
+	private static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+
+	private Map<String, String> headers;
 
 	@BeforeClass
 	public void setup() {
-		playwright = Playwright.create();
-
 		// 1. Define your "Secret" Token
 		String apiToken = "secret-token-12345";
 
@@ -40,15 +37,17 @@ public class AuthenticatedApiTest {
 		 */
 
 		// 2. Create Context with Auth Headers
-		Map<String, String> headers = new HashMap<>();
+		// (the context itself is created on first use by each worker thread)
+		headers = new HashMap<>();
 		headers.put("Content-Type", "application/json");
 		headers.put("Authorization", "Bearer " + apiToken);
 
-		apiContext = playwright.request().newContext(new APIRequest.NewContextOptions()
-				.setBaseURL("https://jsonplaceholder.typicode.com").setExtraHTTPHeaders(headers));
-
 	} // end of setup()
 
+	private APIRequestContext api() {
+		return apiContext(BASE_URL, headers);
+	}
+
 	@Test(priority = 1)
 	public void updatePost() {
 		System.out.println("Sending PUT request to update a post...");
@@ -61,7 +60,7 @@ public class AuthenticatedApiTest {
 		updateData.put("userId", 1);
 
 		// 2. Send PUT Request to specific resource (/posts/1)
-		APIResponse response = apiContext.put("/posts/1", RequestOptions.create().setData(updateData));
+		APIResponse response = api().put("/posts/1", RequestOptions.create().setData(updateData));
 
 		// 3. Validate Response
 		// Status 200 OK is standard for updates (sometimes 204 No Content)
@@ -83,7 +82,7 @@ public class AuthenticatedApiTest {
 		partialData.put("title", "Patched Title Only");
 
 		// 2. Send PATCH Request
-		APIResponse response = apiContext.patch("/posts/1", RequestOptions.create().setData(partialData));
+		APIResponse response = api().patch("/posts/1", RequestOptions.create().setData(partialData));
 
 		Assert.assertEquals(response.status(), 200);
 
@@ -102,7 +101,7 @@ public class AuthenticatedApiTest {
 		System.out.println("Sending DELETE request...");
 
 		// 1. Send DELETE Request
-		APIResponse response = apiContext.delete("/posts/1");
+		APIResponse response = api().delete("/posts/1");
 
 		// 2. Validate Status
 		// 200 OK or 204 No Content are standard success codes for Delete
@@ -114,9 +113,8 @@ public class AuthenticatedApiTest {
 
 	@Test
 	public void testUnauthorizedAccess() {
-		// Create a separate context WITHOUT the token
-		APIRequestContext unauthorizedContext = playwright.request()
-				.newContext(new APIRequest.NewContextOptions().setBaseURL("https://jsonplaceholder.typicode.com"));
+		// Use a separate context WITHOUT the token
+		APIRequestContext unauthorizedContext = apiContext(BASE_URL, null);
 
 		// Try to delete a protected resource
 		APIResponse response = unauthorizedContext.delete("/posts/1");
@@ -126,8 +124,6 @@ public class AuthenticatedApiTest {
 		System.out.println("Mock API Response: " + response.status());
 		// Assert.assertEquals(response.status(), 401);
 		// Uncomment for real API
-
-		unauthorizedContext.dispose();
 	}
 
 	@Test
@@ -138,27 +134,19 @@ public class AuthenticatedApiTest {
 		newPost.put("body", "Testing complete flow");
 		newPost.put("userId", 1);
 
-		APIResponse created = apiContext.post("/posts", RequestOptions.create().setData(newPost));
+		APIResponse created = api().post("/posts", RequestOptions.create().setData(newPost));
 		Assert.assertEquals(created.status(), 201);
 
 		// 2. Update (using the mock ID)
 		newPost.put("title", "Updated Lifecycle Test");
-		APIResponse updated = apiContext.put("/posts/1", RequestOptions.create().setData(newPost));
+		APIResponse updated = api().put("/posts/1", RequestOptions.create().setData(newPost));
 		Assert.assertEquals(updated.status(), 200);
 
 		// 3. Delete
-		APIResponse deleted = apiContext.delete("/posts/1");
+		APIResponse deleted = api().delete("/posts/1");
 		Assert.assertTrue(deleted.status() == 200 || deleted.status() == 204);
 
 		System.out.println("Complete lifecycle executed successfully");
 	}
 
-	@AfterClass
-	public void tearDown() {
-		if (apiContext != null)
-			apiContext.dispose();
-		if (playwright != null)
-			playwright.close();
-	}
-
 } // end of class
@@ -18,17 +18,17 @@ public class CustomModalTest extends BaseTest {
 		LOGGER.info("Starting Custom Modal test...");
 
 		// Use the LambdaTest Selenium Playground for a stable modal example
-		page.navigate("https://www.lambdatest.com/selenium-playground/bootstrap-modal-demo");
+		getPage().navigate("https://www.lambdatest.com/selenium-playground/bootstrap-modal-demo");
 
 		// 1. Trigger the modal
 		LOGGER.info("Triggering the 'Single Modal'...");
 		// We find the specific "Launch Modal" button.
 		// Using .first() because there are multiple on the page.
-		page.getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Launch Modal")).first().click();
+		getPage().getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Launch Modal")).first().click();
 
 		// 2. Define the modal container (CRITICAL STEP)
 		// Inspecting the page shows the modal has the ID 'myModal0'
-		Locator modal = page.locator("#myModal");
+		Locator modal = getPage().locator("#myModal");
 
 		// 3. Verify it appeared
 		// Playwright auto-waits, but this assertion makes the
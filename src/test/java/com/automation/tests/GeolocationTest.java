@@ -30,7 +30,7 @@ public class GeolocationTest extends BaseTest {
 
 		// 1. Configure Context with Location & Permissions
 		// We assume we are on a mobile device (iPhone 13 dimensions)
-		mobileContext = browser.newContext(
+		mobileContext = getBrowser().newContext(
 				new Browser.NewContextOptions().setViewportSize(390, 844).setGeolocation(new Geolocation(lat, lng))
 						// Auto-accept the permission prompt
 						.setPermissions(Arrays.asList("geolocation")).setLocale("en-US"));
@@ -6,23 +6,16 @@ import com.automation.pages.InputFormPage;
 import com.automation.utils.TestDataFactory; // For fallback data
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.microsoft.playwright.APIRequest;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import org.testng.Assert;
-import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 public class HybridTest extends BaseTest {
 
-	private APIRequestContext apiContext;
-
-	@BeforeClass
-	public void setupAPI() {
-		// Initialize the API context specifically for this test
-		apiContext = playwright.request()
-				.newContext(new APIRequest.NewContextOptions().setBaseURL("https://jsonplaceholder.typicode.com"));
+	// Shared per worker thread and disposed at the end of the suite
+	private APIRequestContext api() {
+		return apiContext("https://jsonplaceholder.typicode.com", null);
 	}
 
 	@Test
@@ -33,7 +26,7 @@ public class HybridTest extends BaseTest {
 
 		try {
 			// 1. API Call: Get User ID 1
-			APIResponse response = apiContext.get("/users/1");
+			APIResponse response = api().get("/users/1");
 			Assert.assertEquals(response.status(), 200);
 
 			// 2. Parse JSON
@@ -69,7 +62,7 @@ public class HybridTest extends BaseTest {
 		System.out.println("Step 2: Driving UI with Data: " + userData);
 
 		// 4. UI Interaction (Standard Page Object usage)
-		InputFormPage inputPage = new InputFormPage(page);
+		InputFormPage inputPage = new InputFormPage(getPage());
 		inputPage.navigate();
 
 		// The Page Object processes the POJO blindly
@@ -83,12 +76,4 @@ public class HybridTest extends BaseTest {
 
 	} // end of registerUserFromApiData
 
-	@AfterClass
-	public void tearDownAPI() {
-		if (apiContext != null) {
-			apiContext.dispose();
-		}
-
-	} // end of tearDownAPI
-
 } // end of class
\ No newline at end of file
@@ -11,11 +11,11 @@ public class IFrameTest extends BaseTest {
 	@Test
 	public void interactWithIFrame() {
 		// 1. Navigate to the real-world demo
-		page.navigate("https://www.lambdatest.com/selenium-playground/iframe-demo");
+		getPage().navigate("https://www.lambdatest.com/selenium-playground/iframe-demo");
 
 		// 2. Locate the Frame itself ("The play within a play")
 		// We find the <iframe> element by its ID
-		FrameLocator editorFrame = page.frameLocator("#iFrame1");
+		FrameLocator editorFrame = getPage().frameLocator("#iFrame1");
 
 		// 3. Locate elements INSIDE the frame
 		// The text editor body is inside the frame.
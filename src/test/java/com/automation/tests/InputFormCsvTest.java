@@ -8,13 +8,15 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 public class InputFormCsvTest extends BaseTest {
 
 // The Data Provider calls our CSV Utility
-	@DataProvider(name = "csvData")
-	public Object[][] getCsvData() {
-		// Use our new utility to load the prop list
-		return CsvUtil.getFormDataFromCsv("src/test/resources/data/input_form_data.csv");
+	@DataProvider(name = "csvData", parallel = true)
+	public Iterator<Object[]> getCsvData() {
+		// Rows are streamed from the file as TestNG consumes them
+		return CsvUtil.streamFormDataFromCsv("src/test/resources/data/input_form_data.csv");
 	}
 
 	// The Test accepts a FormData object
@@ -24,12 +26,12 @@ public class InputFormCsvTest extends BaseTest {
 		System.out.println("Testing with CSV Data: " + data);
 
 		// 1. Arrange
-		InputFormPage inputPage = new InputFormPage(page);
+		InputFormPage inputPage = new InputFormPage(getPage());
 		inputPage.navigate();
 
 		// 2. Act
 		// The test logic uses the clean POJO data!
-		inputPage.submitForm(data);
+		inputPage.submitForm(data, InputFormPage.FillMode.BATCHED);
 
 		// 3. Assert
 		Assert.assertTrue(inputPage.isSuccessMessageVisible(), "Form submission failed for user: " + data.getEmail());
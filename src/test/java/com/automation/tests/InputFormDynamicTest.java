@@ -13,7 +13,7 @@ public class InputFormDynamicTest extends BaseTest {
 
 	@Test(invocationCount = 10)
 	public void verifyFormSubmissionWithDynamicData() {
-		InputFormPage inputPage = new InputFormPage(page);
+		InputFormPage inputPage = new InputFormPage(getPage());
 		inputPage.navigate();
 
 		// 1. Get valid countries from the page to avoid guessing
@@ -29,7 +29,7 @@ public class InputFormDynamicTest extends BaseTest {
 		System.out.println("Testing with: " + dynamicData + " | Random Country: " + randomCountry);
 
 		// 4. ACT: Submit
-		inputPage.submitForm(dynamicData);
+		inputPage.submitForm(dynamicData, InputFormPage.FillMode.BATCHED);
 
 		// 5. ASSERT: Verify success message
 		Assert.assertTrue(inputPage.isSuccessMessageVisible(), "Success message was not visible after submission!");
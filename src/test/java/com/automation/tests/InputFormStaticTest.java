@@ -29,7 +29,7 @@ public void verifyFormWithStaticData() {
 	"10001"
   );
  
- InputFormPage inputPage = new InputFormPage(page);
+ InputFormPage inputPage = new InputFormPage(getPage());
 
  // 2. Act
  inputPage.navigate();
@@ -26,7 +26,7 @@ public class MobileLayoutTest extends BaseTest {
 						"Mozilla/5.0 (iPhone; CPU iPhone OS 15_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/15.0 Mobile/15E148 Safari/604.1");
 
 		// 2. Launch a New Context with Device Emulation
-		mobileContext = browser.newContext(options);
+		mobileContext = getBrowser().newContext(options);
 
 		// Create a page within this mobile context
 		Page mobilePage = mobileContext.newPage();
@@ -26,7 +26,7 @@ public class MockingTest extends BaseTest {
             "</li>";
 
         // 2. Set up the Interception (Stubbing)
-        page.route("**/index.php?route=extension/maza/product/product/autocomplete**", route -> {
+        getPage().route("**/index.php?route=extension/maza/product/product/autocomplete**", route -> {
             String url = route.request().url();
             
             // Strategic Mocking: Only intercept if it matches our specific test case input.
@@ -46,25 +46,25 @@ public class MockingTest extends BaseTest {
         });
 
         // 3. Perform the UI Action with Synchronization
-        page.navigate("https://ecommerce-playground.lambdatest.io/");
+        getPage().navigate("https://ecommerce-playground.lambdatest.io/");
         
         // Use fill() instead of the deprecated type()
         // Note: We use .first() because the page has two search bars (Desktop & Mobile)
         
         // Pro Tip: We wrap the action in waitForResponse to ensure the network call happens before we assert.
         // We strictly wait for the request that contains our specific filter.
-        page.waitForResponse(response -> 
+        getPage().waitForResponse(response -> 
             response.url().contains("route=extension/maza/product/product/autocomplete") 
             && response.url().toLowerCase().contains("filter_name=spy")
             && response.status() == 200, 
             () -> {
-                page.getByPlaceholder("Search For Products").first().fill("Spy");
+                getPage().getByPlaceholder("Search For Products").first().fill("Spy");
             }
         );
 
         // 4. Validate the UI displays our Stubbed Data
         // We find the specific dropdown item that matches our mock name to avoid ambiguity.
-        Locator resultItem = page.locator(".dropdown-menu li")
+        Locator resultItem = getPage().locator(".dropdown-menu li")
             .filter(new Locator.FilterOptions().setHasText("Super Secret Spy Gadget"))
             .first();
             
@@ -89,7 +89,7 @@ public class MockingTest extends BaseTest {
      String routePattern = "**/index.php?route=checkout/checkout*";
 
      // 1. Set up the Interception
-     page.route(routePattern, route -> {
+     getPage().route(routePattern, route -> {
       System.out.println(">>> Intercepting Checkout. Simulating 500 Error.");
       
       // Return a realistic 500 response with headers
@@ -100,15 +100,15 @@ public class MockingTest extends BaseTest {
      });
 
      // 2. Trigger the Navigation
-     page.navigate(checkoutUrl);
+     getPage().navigate(checkoutUrl);
      
      // 3. Validate the UI behavior
      // We assert that our custom error message is visible.
-     assertThat(page.locator("h1")).hasText("Internal Server Error");
+     assertThat(getPage().locator("h1")).hasText("Internal Server Error");
 
      // 4. Cleanup (Good Practice)
      // Remove the route handler so it doesn't affect subsequent tests 
-     page.unroute(routePattern);
+     getPage().unroute(routePattern);
     }
     
     
@@ -119,7 +119,7 @@ public class MockingTest extends BaseTest {
      String pattern = "**/*";
 
      // Intercept to log, then continue
-     page.route(pattern, route -> {
+     getPage().route(pattern, route -> {
       // Log the method and URL
       System.out.println(">> Network Request: " + route.request().method() + " " + route.request().url());
       
@@ -130,14 +130,14 @@ public class MockingTest extends BaseTest {
      });
      
      // Navigate to the homepage to generate traffic
-     page.navigate("https://ecommerce-playground.lambdatest.io/");
+     getPage().navigate("https://ecommerce-playground.lambdatest.io/");
      
      // Simple assertion to ensure page loaded
-     assertThat(page).hasTitle("Your Store");
+     assertThat(getPage()).hasTitle("Your Store");
 
      // Cleanup: Remove the route so it doesn't slow down 
      // subsequent tests
-     page.unroute(pattern);
+     getPage().unroute(pattern);
     }
 
 
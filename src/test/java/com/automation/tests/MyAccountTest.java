@@ -0,0 +1,53 @@
+package com.automation.tests;
+
+import com.automation.base.AuthenticatedAs;
+import com.automation.base.BaseTest;
+import com.automation.utils.ConfigReader;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.AriaRole;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+/**
+ * -------------------------------------------------------------------
+ * Test Case ID:      TC-AUTH-002
+ * Title:             Verify Cached Session Opens My Account
+ * -------------------------------------------------------------------
+ * Description:			Verifies that a test annotated with
+ * 						@AuthenticatedAs starts logged in, without a UI
+ * 						login, using the role's cached storage state.
+ * Sub-System:      	Authentication
+ * Priority:        	P2 (Regression)
+ * * Preconditions:		The practice website is available
+ * * User Journey:
+ * 1. Open the My Account page directly
+ * 2. Verify the account dashboard is shown (no login redirect)
+ * * Expected Result:	The "My Account" heading is visible.
+ * * Author:          	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@AuthenticatedAs("customer")
+public class MyAccountTest extends BaseTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MyAccountTest.class);
+
+	@Test(description = "Verify a cached customer session opens My Account directly")
+	public void testMyAccountWithCachedSession() {
+		Page page = getPage();
+
+		Allure.step("Open My Account", () -> {
+			page.navigate(ConfigReader.getProperty("baseUrl") + "index.php?route=account/account");
+		});
+
+		LOGGER.info("Landed on: {}", page.url());
+		Allure.step("Verify the account dashboard is shown", () -> {
+			assertThat(page.getByRole(AriaRole.HEADING, new Page.GetByRoleOptions().setName("My Account")))
+					.isVisible();
+		});
+	}
+}
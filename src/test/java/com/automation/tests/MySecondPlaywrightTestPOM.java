@@ -49,10 +49,10 @@ public class MySecondPlaywrightTestPOM extends BaseTest {
 
 		// --- ARRANGE ---
 		// We initialize our "Actors" (Page Objects) and give them the "Stage" (page)
-		HomePage home = new HomePage(page);
-		ProductPage productPage = new ProductPage(page);
-		ProductDetailsPage detailsPage = new ProductDetailsPage(page);
-		CartPage cart = new CartPage(page);
+		HomePage home = new HomePage(getPage());
+		ProductPage productPage = new ProductPage(getPage());
+		ProductDetailsPage detailsPage = new ProductDetailsPage(getPage());
+		CartPage cart = new CartPage(getPage());
 
 		// --- ACT (The Test Flow - Pure Logic) ---
 
@@ -62,7 +62,7 @@ public class MySecondPlaywrightTestPOM extends BaseTest {
 
 		// 2. Accessibility Scan (Inherited from BaseTest)
 		// Professional QA Practice: Check for violations immediately
-		checkAccessibility(page);
+		checkAccessibility(getPage());
 
 		// 3. Continue Navigation
 		home.navigateToDesktopPage();
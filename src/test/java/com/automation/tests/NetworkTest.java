@@ -11,7 +11,7 @@ public class NetworkTest extends BaseTest {
 
 	@Test
 	public void verifyOfflineHandling() {
-		BrowserContext networkContext = browser.newContext();
+		BrowserContext networkContext = getBrowser().newContext();
 		Page networkPage = networkContext.newPage();
 
 		// 1. Load the page first (Online)
@@ -45,7 +45,7 @@ public class NetworkTest extends BaseTest {
 
 	@Test
 	public void verifyNetworkRecoveryIndicators() {
-		BrowserContext mobileContext = browser.newContext();
+		BrowserContext mobileContext = getBrowser().newContext();
 		Page page = mobileContext.newPage();
 
 		// 1. Navigate to our local PWA simulation
@@ -68,7 +68,7 @@ public class NetworkTest extends BaseTest {
 
 	@Test
 	public void verifySlowNetworkHandling() {
-		BrowserContext context = browser.newContext();
+		BrowserContext context = getBrowser().newContext();
 		Page page = context.newPage();
 
 		// 1. Create a CDP Session (Direct link to browser engine)
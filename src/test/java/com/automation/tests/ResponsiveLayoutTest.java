@@ -10,7 +10,7 @@ import static org.testng.Assert.assertFalse;
 public class ResponsiveLayoutTest extends BaseTest {
 
 // 1. Define Standard Breakpoints & Edge Cases
-	@DataProvider(name = "screenResolutions")
+	@DataProvider(name = "screenResolutions", parallel = true)
 	public Object[][] getScreenResolutions() {
 		return new Object[][] {
 				// { Width, Height, Expect Mobile Layout?, Description }
@@ -29,12 +29,12 @@ public class ResponsiveLayoutTest extends BaseTest {
 		System.out.println("Testing Layout: " + deviceName + " [" + width + "x" + height + "]");
 
 		// 2. Resize the existing page
-		if (page != null) {
-			page.setViewportSize(width, height);
+		if (getPage() != null) {
+			getPage().setViewportSize(width, height);
 		}
 
 		// 3. Navigate
-		page.navigate("https://ecommerce-playground.lambdatest.io/");
+		getPage().navigate("https://ecommerce-playground.lambdatest.io/");
 
 		// 4. Conditional Assertions (The "Responsive" Logic)
 		// Inspect to identify these unique locators
@@ -42,16 +42,16 @@ public class ResponsiveLayoutTest extends BaseTest {
 
 		if (expectMobileLayout) {
 			// ASSERT: Mobile Layout
-			assertThat(page.locator(desktopMenu)).isAttached();
-			assertThat(page.locator(desktopMenu)).isHidden();
+			assertThat(getPage().locator(desktopMenu)).isAttached();
+			assertThat(getPage().locator(desktopMenu)).isHidden();
 		} else {
 			// ASSERT: Desktop Layout
-			assertThat(page.locator(desktopMenu)).isVisible();
+			assertThat(getPage().locator(desktopMenu)).isVisible();
 		}
 
 		// 5. Professional Check: Horizontal Scroll
 		// A responsive page should NEVER have a horizontal scrollbar on the body.
-		boolean hasHorizontalScroll = (boolean) page
+		boolean hasHorizontalScroll = (boolean) getPage()
 				.evaluate("document.documentElement.scrollWidth > window.innerWidth");
 
 		assertFalse(hasHorizontalScroll, "Page has horizontal scroll at " + width + "px (Responsive Failure)");
@@ -61,16 +61,16 @@ public class ResponsiveLayoutTest extends BaseTest {
 	@Test
 	public void discoverBreakpoints() {
 		// Navigate once at the beginning
-		page.navigate("https://ecommerce-playground.lambdatest.io/");
+		getPage().navigate("https://ecommerce-playground.lambdatest.io/");
 
 		int[] widths = { 320, 576, 768, 992, 1200, 1920 };
 		System.out.println("--- Discovery Mode ---");
 		for (int width : widths) {
 			// Quick check without full context tear-down
-			page.setViewportSize(width, 800);
+			getPage().setViewportSize(width, 800);
 
 			// Check visibility of the main menu
-			boolean menuVisible = page.locator("ul.navbar-nav.horizontal").isVisible();
+			boolean menuVisible = getPage().locator("ul.navbar-nav.horizontal").isVisible();
 			System.out.println(width + "px: " + (menuVisible ? "Desktop" : "Mobile") + " layout");
 		}
 
@@ -78,18 +78,18 @@ public class ResponsiveLayoutTest extends BaseTest {
 
 	@Test
 	public void testOrientationChange() {
-		page.navigate("https://ecommerce-playground.lambdatest.io/");
+		getPage().navigate("https://ecommerce-playground.lambdatest.io/");
 		String desktopMenuSelector = "ul.navbar-nav.horizontal";
 
 		// Portrait (iPad Mini width)
-		page.setViewportSize(768, 1024);
+		getPage().setViewportSize(768, 1024);
 		// Expect desktop menu (768px is Tablet/Desktop on this site)
-		assertThat(page.locator(desktopMenuSelector)).isVisible();
+		assertThat(getPage().locator(desktopMenuSelector)).isVisible();
 
 		// Rotate to Landscape (1024px)
-		page.setViewportSize(1024, 768);
+		getPage().setViewportSize(1024, 768);
 		// Expect desktop menu
-		assertThat(page.locator(desktopMenuSelector)).isVisible();
+		assertThat(getPage().locator(desktopMenuSelector)).isVisible();
 
 		System.out.println("Layout adapts correctly to orientation changes");
 	}
@@ -44,7 +44,7 @@ public class SearchTest extends BaseTest {
 	
 	
 	// 1. Define the Data Source
-	@DataProvider(name = "searchData")
+	@DataProvider(name = "searchData", parallel = true)
 	public Object[][] getSearchData() {
 	return new Object[][] {
 	// { Search Term, Expected Result Header, Should Succeed? }
@@ -61,7 +61,7 @@ public class SearchTest extends BaseTest {
 	LOGGER.info("Starting search test for: {}", searchTerm);
 	
 	// --- ARRANGE ---
-	HomePage home = new HomePage(page);
+	HomePage home = new HomePage(getPage());
 	home.navigate();
 
 	// --- ACT ---
@@ -71,11 +71,11 @@ public class SearchTest extends BaseTest {
 	// --- ASSERT ---
 	// 1. Verify the Header Text (This should always exist, even for 0 results)
 	LOGGER.info("Verifying header contains: {}", expectedHeader);
-	assertThat(page.locator("h1")).containsText(expectedHeader);
+	assertThat(getPage().locator("h1")).containsText(expectedHeader);
 
 	// 2. Verify Product Visibility
 	// We look for the product title in the results grid
-	Locator productTitle = page.locator(".product-thumb h4 a").filter(new Locator.FilterOptions().setHasText(searchTerm)).first();
+	Locator productTitle = getPage().locator(".product-thumb h4 a").filter(new Locator.FilterOptions().setHasText(searchTerm)).first();
 
 	if (shouldSucceed) {
 	// For valid products, we expect to find them
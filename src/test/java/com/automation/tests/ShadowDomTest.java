@@ -14,7 +14,7 @@ private static final String SHADOW_DOM_URL = "https://www.lambdatest.com/seleniu
 
 @BeforeMethod
 public void navigateToShadowDemo() {
- page.navigate(SHADOW_DOM_URL);
+ getPage().navigate(SHADOW_DOM_URL);
 }
 
 @Test
@@ -25,7 +25,7 @@ System.out.println("Interacting with elements inside Shadow DOM...");
 // NOTE: We use setExact(true) because the page contains multiple 
 // similar labels(like "First Name" vs "Name") and we want to 
 // avoid partial matches.
-Locator nameInput = page.getByRole(AriaRole.TEXTBOX, 
+Locator nameInput = getPage().getByRole(AriaRole.TEXTBOX, 
   new Page.GetByRoleOptions().setName("Name").setExact(true));
         
 nameInput.fill("Playwright Tester");
@@ -34,12 +34,12 @@ assertThat(nameInput).hasValue("Playwright Tester");
 
 // 2. Interact with 'Email' (Inside the SAME Shadow Root)
 // Playwright handles the context seamlessly
-Locator emailInput = page.getByRole(AriaRole.TEXTBOX, 
+Locator emailInput = getPage().getByRole(AriaRole.TEXTBOX, 
  new Page.GetByRoleOptions().setName("Email").setExact(true));
             
  emailInput.fill("tester@example.com");
  
- page.pause();
+ getPage().pause();
         
  assertThat(emailInput).hasValue("tester@example.com");
         
@@ -50,7 +50,7 @@ Locator emailInput = page.getByRole(AriaRole.TEXTBOX,
 @Test
 public void debugShadowDomStructure() {
  // Log all shadow hosts on the page to the console
- Object shadowHosts = page.evaluate("() => {" + 
+ Object shadowHosts = getPage().evaluate("() => {" + 
   "  return Array.from(document.querySelectorAll('*'))" +
   "    .filter(el => el.shadowRoot)" +
   "    .map(el => el.tagName.toLowerCase());" +
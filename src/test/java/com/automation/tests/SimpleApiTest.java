@@ -1,35 +1,23 @@
 package com.automation.tests;
 
-import com.microsoft.playwright.APIRequest;
+import com.automation.base.BaseApiTest;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
-import com.microsoft.playwright.Playwright;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.testng.Assert;
-import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import com.microsoft.playwright.options.RequestOptions;
 import java.util.HashMap;
 import java.util.Map;
 
-public class SimpleApiTest {
+public class SimpleApiTest extends BaseApiTest {
 
-	private Playwright playwright;
-	private APIRequestContext apiContext;
-
-	@BeforeClass
-	public void setup() {
-		// 1. Initialize Playwright (No Browser needed!)
-		playwright = Playwright.create();
-
-		// 2. Create the API Context
-		// This acts like a "Headless Postman" - ready to send requests
-		apiContext = playwright.request()
-				.newContext(new APIRequest.NewContextOptions().setBaseURL("https://jsonplaceholder.typicode.com")
-						.setExtraHTTPHeaders(Map.of("Accept", "application/json")));
+	// The API Context acts like a "Headless Postman" - ready to send requests.
+	// No Browser needed; it is shared per worker thread for the whole suite.
+	private APIRequestContext api() {
+		return apiContext("https://jsonplaceholder.typicode.com", Map.of("Accept", "application/json"));
 	}
 
 	@Test
@@ -40,7 +28,7 @@ public class SimpleApiTest {
 		long startTime = System.currentTimeMillis();
 
 		// 2. Send GET Request
-		APIResponse response = apiContext.get("/users/1");
+		APIResponse response = api().get("/users/1");
 
 		long duration = System.currentTimeMillis() - startTime;
 		System.out.println("Response Time: " + duration + "ms");
@@ -89,7 +77,7 @@ public class SimpleApiTest {
 		System.out.println("Testing 404 scenario...");
 
 		// Request a user ID that doesn't exist
-		APIResponse response = apiContext.get("/api/users/9999");
+		APIResponse response = api().get("/api/users/9999");
 
 		// Verify we get a 404 (Not Found), not a 200 or 500
 		Assert.assertEquals(response.status(), 404, "Should return 404 for non-existent user");
@@ -119,7 +107,7 @@ public class SimpleApiTest {
 
 		// 3. Send POST request
 		// We pass the map to .setData(), which handles the JSON conversion
-		APIResponse response = apiContext.post("/posts", RequestOptions.create().setData(postData));
+		APIResponse response = api().post("/posts", RequestOptions.create().setData(postData));
 
 		long duration = System.currentTimeMillis() - startTime;
 		System.out.println("Post created in: " + duration + "ms");
@@ -149,7 +137,7 @@ public class SimpleApiTest {
 		incompleteData.put("title", "Incomplete Post");
 		// Missing body and userId
 
-		APIResponse response = apiContext.post("/posts", RequestOptions.create().setData(incompleteData));
+		APIResponse response = api().post("/posts", RequestOptions.create().setData(incompleteData));
 
 		// JSONPlaceholder still accepts this (returns 201)
 		// Real APIs would typically return 400 Bad Request
@@ -164,7 +152,7 @@ public class SimpleApiTest {
 		postData.put("body", "Testing full CRUD");
 		postData.put("userId", 1);
 
-		APIResponse createResponse = apiContext.post("/posts", RequestOptions.create().setData(postData));
+		APIResponse createResponse = api().post("/posts", RequestOptions.create().setData(postData));
 		Assert.assertEquals(createResponse.status(), 201);
 
 		// 2. Read (GET)
@@ -172,21 +160,11 @@ public class SimpleApiTest {
 		// we can't fetch the *new* ID (101).
 		// In a real app, you would use the ID from the POST response:
 		// "/posts/" + newId
-		APIResponse getResponse = apiContext.get("/posts/1");
+		APIResponse getResponse = api().get("/posts/1");
 		Assert.assertEquals(getResponse.status(), 200);
 
 		// 3. Update (PUT) - Coming in Phase 3
 		// 4. Delete (DELETE) - Coming in Phase 4
 	}
 
-	@AfterClass
-	public void tearDown() {
-		if (apiContext != null) {
-			apiContext.dispose();
-		}
-		if (playwright != null) {
-			playwright.close();
-		}
-	}
-
 } // end of class
\ No newline at end of file
@@ -12,7 +12,7 @@ public class TimezoneTest extends BaseTest {
 	@Test
 	public void verifyTimezoneHandling() {
 		// 1. Set timezone to Tokyo (UTC+9)
-		BrowserContext tzContext = browser.newContext(new Browser.NewContextOptions().setTimezoneId("Asia/Tokyo"));
+		BrowserContext tzContext = getBrowser().newContext(new Browser.NewContextOptions().setTimezoneId("Asia/Tokyo"));
 
 		Page tzPage = tzContext.newPage();
 
@@ -0,0 +1,190 @@
+package com.automation.tests.unit;
+
+import com.automation.utils.CompiledCsv;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * -------------------------------------------------------------------
+ * Test Case ID:      TC-CSV-003
+ * Title:             CompiledCsv compiles, caches and reads CSV rows
+ * -------------------------------------------------------------------
+ * Description:			Compiles CSVs into a temporary cache folder and
+ * 						checks the rows read back, range access,
+ * 						recompiling after an edit, isolation of
+ * 						same-named files and concurrent opens.
+ * Sub-System:      	Test data (CSV)
+ * Priority:        	P2 (Regression)
+ * * Preconditions:		None; unit group, no browser or network.
+ * * Author:          	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@Test(groups = "unit")
+public class CompiledCsvTest {
+
+	private Path workDir;
+	private Path cacheDir;
+
+	@BeforeMethod(alwaysRun = true)
+	public void createDirs() throws IOException {
+		workDir = Files.createTempDirectory("compiled-csv-test");
+		cacheDir = workDir.resolve("cache");
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void deleteDirs() throws IOException {
+		try (Stream<Path> files = Files.walk(workDir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	private Path write(String relative, String content) throws IOException {
+		Path csv = workDir.resolve(relative);
+		Files.createDirectories(csv.getParent());
+		Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+		return csv;
+	}
+
+	private List<Path> compiledFiles(String csvName) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, csvName + "-*.bin")) {
+			stream.forEach(files::add);
+		}
+		return files;
+	}
+
+	public void roundTripsHeaderAndRows() throws IOException {
+		Path csv = write("users.csv", "\uFEFFName,Address,Note\n"
+				+ "\"Smith, John\",\"1 Broadway\nSuite 2\",\"said \"\"hi\"\"\"\n"
+				+ "Zoë,,ünïcode ✓\n");
+
+		CompiledCsv compiled = CompiledCsv.open(csv, cacheDir);
+
+		Assert.assertEquals(compiled.getHeader(), new String[] { "Name", "Address", "Note" });
+		Assert.assertEquals(compiled.size(), 2);
+		Assert.assertEquals(compiled.getRow(0), new String[] { "Smith, John", "1 Broadway\nSuite 2", "said \"hi\"" });
+		Assert.assertEquals(compiled.getRow(1), new String[] { "Zoë", "", "ünïcode ✓" });
+	}
+
+	public void reusesCompiledFileOnSecondOpen() throws IOException {
+		Path csv = write("users.csv", "h\nv\n");
+		CompiledCsv.open(csv, cacheDir);
+		List<Path> first = compiledFiles("users.csv");
+		long modified = Files.getLastModifiedTime(first.get(0)).toMillis();
+
+		CompiledCsv again = CompiledCsv.open(csv, cacheDir);
+
+		Assert.assertEquals(compiledFiles("users.csv"), first);
+		Assert.assertEquals(Files.getLastModifiedTime(first.get(0)).toMillis(), modified);
+		Assert.assertEquals(again.getRow(0), new String[] { "v" });
+	}
+
+	public void readsRowRanges() throws IOException {
+		StringBuilder content = new StringBuilder("id\n");
+		for (int i = 0; i < 10; i++) {
+			content.append(i).append('\n');
+		}
+		CompiledCsv compiled = CompiledCsv.open(write("ids.csv", content.toString()), cacheDir);
+
+		List<String> slice = new ArrayList<>();
+		Iterator<String[]> rows = compiled.rows(3, 6);
+		while (rows.hasNext()) {
+			slice.add(rows.next()[0]);
+		}
+		Assert.assertEquals(slice.toString(), "[3, 4, 5]");
+		Assert.assertFalse(compiled.rows(4, 4).hasNext());
+		Assert.assertEquals(compiled.getRow(9), new String[] { "9" });
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void rejectsRowPastEnd() throws IOException {
+		CompiledCsv.open(write("one.csv", "h\nv\n"), cacheDir).getRow(1);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void rejectsRangePastEnd() throws IOException {
+		CompiledCsv.open(write("one.csv", "h\nv\n"), cacheDir).rows(0, 2);
+	}
+
+	public void headerOnlyAndEmptyFilesHaveNoRows() throws IOException {
+		Assert.assertEquals(CompiledCsv.open(write("header.csv", "a,b\n"), cacheDir).size(), 0);
+
+		CompiledCsv empty = CompiledCsv.open(write("empty.csv", ""), cacheDir);
+		Assert.assertEquals(empty.size(), 0);
+		Assert.assertEquals(empty.getHeader().length, 0);
+	}
+
+	public void recompilesAfterEditAndDeletesOldVersion() throws IOException {
+		Path csv = write("users.csv", "Name\nOld\n");
+		CompiledCsv.open(csv, cacheDir);
+		Path old = compiledFiles("users.csv").get(0);
+
+		Files.write(csv, "Name\nNew\nNewer\n".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 5000));
+		CompiledCsv edited = CompiledCsv.open(csv, cacheDir);
+
+		Assert.assertEquals(edited.size(), 2);
+		Assert.assertEquals(edited.getRow(0), new String[] { "New" });
+		List<Path> files = compiledFiles("users.csv");
+		Assert.assertEquals(files.size(), 1, "Stale version should be deleted: " + files);
+		Assert.assertNotEquals(files.get(0), old);
+	}
+
+	public void keepsSameNamedFilesInOtherFoldersApart() throws IOException {
+		Path first = write("a/data.csv", "k\nfrom-a\n");
+		Path second = write("b/data.csv", "k\nfrom-b\n");
+
+		CompiledCsv a = CompiledCsv.open(first, cacheDir);
+		CompiledCsv b = CompiledCsv.open(second, cacheDir);
+
+		Assert.assertEquals(compiledFiles("data.csv").size(), 2);
+		Assert.assertEquals(a.getRow(0), new String[] { "from-a" });
+		Assert.assertEquals(b.getRow(0), new String[] { "from-b" });
+		// Reopening one must not have deleted the other's compiled file
+		Assert.assertEquals(CompiledCsv.open(first, cacheDir).getRow(0), new String[] { "from-a" });
+		Assert.assertEquals(compiledFiles("data.csv").size(), 2);
+	}
+
+	public void concurrentOpensCompileOnce() throws Exception {
+		StringBuilder content = new StringBuilder("id,value\n");
+		for (int i = 0; i < 2000; i++) {
+			content.append(i).append(",value ").append(i).append('\n');
+		}
+		Path csv = write("big.csv", content.toString());
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CompiledCsv>> opens = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				opens.add(executor.submit((Callable<CompiledCsv>) () -> CompiledCsv.open(csv, cacheDir)));
+			}
+			for (Future<CompiledCsv> open : opens) {
+				CompiledCsv compiled = open.get();
+				Assert.assertEquals(compiled.size(), 2000);
+				Assert.assertEquals(compiled.getRow(1999), new String[] { "1999", "value 1999" });
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Assert.assertEquals(compiledFiles("big.csv").size(), 1);
+	}
+}
@@ -0,0 +1,132 @@
+package com.automation.tests.unit;
+
+import com.automation.utils.CsvReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * -------------------------------------------------------------------
+ * Test Case ID:      TC-CSV-001
+ * Title:             CsvReader parses RFC 4180 edge cases
+ * -------------------------------------------------------------------
+ * Description:			Feeds the streaming parser quoted commas,
+ * 						embedded line breaks, escaped quotes, every line
+ * 						ending, a BOM, blank lines and malformed quoting.
+ * Sub-System:      	Test data (CSV)
+ * Priority:        	P2 (Regression)
+ * * Preconditions:		None; unit group, no browser or network.
+ * * Author:          	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@Test(groups = "unit")
+public class CsvReaderTest {
+
+	private static List<String[]> parse(String csv) throws IOException {
+		List<String[]> records = new ArrayList<>();
+		try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+			while (reader.hasNext()) {
+				records.add(reader.next());
+			}
+		}
+		return records;
+	}
+
+	public void splitsPlainFields() throws IOException {
+		List<String[]> records = parse("Name,Email\nJohn,john@test.com\n");
+		Assert.assertEquals(records.size(), 2);
+		Assert.assertEquals(records.get(0), new String[] { "Name", "Email" });
+		Assert.assertEquals(records.get(1), new String[] { "John", "john@test.com" });
+	}
+
+	public void keepsCommasInsideQuotes() throws IOException {
+		List<String[]> records = parse("\"Smith, John\",NY\n");
+		Assert.assertEquals(records.get(0), new String[] { "Smith, John", "NY" });
+	}
+
+	public void keepsLineBreaksInsideQuotes() throws IOException {
+		List<String[]> records = parse("\"123 Broadway\r\nSuite 100\",NY\nnext,row\n");
+		Assert.assertEquals(records.size(), 2);
+		Assert.assertEquals(records.get(0), new String[] { "123 Broadway\r\nSuite 100", "NY" });
+		Assert.assertEquals(records.get(1), new String[] { "next", "row" });
+	}
+
+	public void unescapesDoubledQuotes() throws IOException {
+		List<String[]> records = parse("\"He said \"\"hi\"\"\",\"\"\"\"\n");
+		Assert.assertEquals(records.get(0), new String[] { "He said \"hi\"", "\"" });
+	}
+
+	public void keepsEmptyFields() throws IOException {
+		List<String[]> records = parse("a,,\"\",b,\n");
+		Assert.assertEquals(records.get(0), new String[] { "a", "", "", "b", "" });
+	}
+
+	public void acceptsCrlfLfAndCrLineEndings() throws IOException {
+		List<String[]> records = parse("a,b\r\nc,d\ne,f\rg,h");
+		Assert.assertEquals(records.size(), 4);
+		Assert.assertEquals(records.get(0), new String[] { "a", "b" });
+		Assert.assertEquals(records.get(1), new String[] { "c", "d" });
+		Assert.assertEquals(records.get(2), new String[] { "e", "f" });
+		Assert.assertEquals(records.get(3), new String[] { "g", "h" });
+	}
+
+	public void stripsLeadingBom() throws IOException {
+		List<String[]> records = parse("\uFEFFName,Email\nJohn,j@test.com\n");
+		Assert.assertEquals(records.get(0)[0], "Name");
+	}
+
+	public void skipsBlankLines() throws IOException {
+		List<String[]> records = parse("\r\nh1,h2\n\nv1,v2\r\n\r\n\n");
+		Assert.assertEquals(records.size(), 2);
+		Assert.assertEquals(records.get(0), new String[] { "h1", "h2" });
+		Assert.assertEquals(records.get(1), new String[] { "v1", "v2" });
+	}
+
+	public void treatsQuotedEmptyLineAsRecord() throws IOException {
+		List<String[]> records = parse("h\n\"\"\n");
+		Assert.assertEquals(records.size(), 2);
+		Assert.assertEquals(records.get(1), new String[] { "" });
+	}
+
+	public void reportsStartLineOfEachRecord() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader("h\n\n\"multi\nline\",x\nlast\n"))) {
+			reader.next();
+			Assert.assertEquals(reader.getLineNumber(), 1);
+			reader.next();
+			Assert.assertEquals(reader.getLineNumber(), 3);
+			reader.next();
+			Assert.assertEquals(reader.getLineNumber(), 5);
+			Assert.assertFalse(reader.hasNext());
+		}
+	}
+
+	public void handlesEmptyInput() throws IOException {
+		Assert.assertTrue(parse("").isEmpty());
+		Assert.assertTrue(parse("\uFEFF").isEmpty());
+		Assert.assertTrue(parse("\n\r\n").isEmpty());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Unterminated quoted field starting at line 2")
+	public void rejectsUnterminatedQuote() throws IOException {
+		parse("h\n\"never closed,x\ny\n");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Unexpected character 'x' after closing quote.*")
+	public void rejectsTextAfterClosingQuote() throws IOException {
+		parse("\"a\"x,b\n");
+	}
+
+	@Test(expectedExceptions = NoSuchElementException.class)
+	public void nextPastEndThrows() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader("a\n"))) {
+			reader.next();
+			reader.next();
+		}
+	}
+}
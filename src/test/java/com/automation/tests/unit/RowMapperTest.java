@@ -0,0 +1,145 @@
+package com.automation.tests.unit;
+
+import com.automation.models.FormData;
+import com.automation.utils.CsvAlias;
+import com.automation.utils.RowMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * -------------------------------------------------------------------
+ * Test Case ID:      TC-CSV-002
+ * Title:             RowMapper binds CSV headers to model properties
+ * -------------------------------------------------------------------
+ * Description:			Binds headers to constructor parameters and
+ * 						setters, resolves @CsvAlias names, parses typed
+ * 						columns and rejects headers or rows that do not
+ * 						fit the model.
+ * Sub-System:      	Test data (CSV)
+ * Priority:        	P2 (Regression)
+ * * Preconditions:		None; unit group, no browser or network.
+ * * Author:          	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@Test(groups = "unit")
+public class RowMapperTest {
+
+	private static final String[] FORM_HEADER = { "Name", "Email", "Password", "Company", "Website", "Country", "City",
+			"Address1", "Address2", "State", "Zip" };
+
+	/** Setter-bound model with typed properties. */
+	public static class Product {
+		private String name;
+		private int quantity;
+		private Double price;
+		private boolean active;
+
+		public void setName(String name) { this.name = name; }
+		public void setQuantity(int quantity) { this.quantity = quantity; }
+		public void setPrice(Double price) { this.price = price; }
+		// Fluent setter: the return value is ignored
+		public Product setActive(boolean active) { this.active = active; return this; }
+	}
+
+	/** Constructor-bound model whose second column is only known by alias. */
+	public static class Contact {
+		private final String fullName;
+		@CsvAlias({ "E-mail Address", "Mail" })
+		private final String email;
+
+		public Contact(String fullName, String email) {
+			this.fullName = fullName;
+			this.email = email;
+		}
+	}
+
+	public void bindsFormDataConstructorInAnyColumnOrder() {
+		String[] header = { "Zip", "State", "Address2", "Address1", "City", "Country", "Website", "Company",
+				"Password", "Email", "Name" };
+		String[] row = { "10001", "NY", "Suite 1", "1 Broadway", "New York", "United States", "https://acme.com",
+				"Acme", "Secret1", "john@test.com", "John" };
+
+		FormData data = RowMapper.bind(FormData.class, header).map(row);
+
+		Assert.assertEquals(data.getName(), "John");
+		Assert.assertEquals(data.getEmail(), "john@test.com");
+		Assert.assertEquals(data.getAddress1(), "1 Broadway");
+		Assert.assertEquals(data.getAddress2(), "Suite 1");
+		Assert.assertEquals(data.getZipCode(), "10001", "Zip column should reach zipCode through @CsvAlias");
+	}
+
+	public void matchesHeadersIgnoringCaseSpacesAndPunctuation() {
+		String[] header = { "NAME", "e-mail", "Pass word", "company", "Web_site", "country", "CITY", "Address 1",
+				"Address 2", "state", "zip" };
+		FormData data = RowMapper.bind(FormData.class, header)
+				.map(new String[] { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k" });
+
+		Assert.assertEquals(data.getEmail(), "b");
+		Assert.assertEquals(data.getAddress2(), "i");
+		Assert.assertEquals(data.getZipCode(), "k");
+	}
+
+	public void resolvesLaterAliasesAndPrefersPropertyName() {
+		Contact byAlias = RowMapper.bind(Contact.class, new String[] { "Mail", "Full Name" })
+				.map(new String[] { "jane@test.com", "Jane" });
+		Assert.assertEquals(byAlias.email, "jane@test.com");
+		Assert.assertEquals(byAlias.fullName, "Jane");
+
+		Contact byName = RowMapper.bind(Contact.class, new String[] { "Full Name", "Mail", "Email" })
+				.map(new String[] { "Jane", "alias@test.com", "name@test.com" });
+		Assert.assertEquals(byName.email, "name@test.com");
+	}
+
+	public void bindsSettersAndParsesTypes() {
+		RowMapper<Product> mapper = RowMapper.bind(Product.class,
+				new String[] { "Active", "Unused", "Price", "Quantity", "Name" });
+		Product product = mapper.map(new String[] { "true", "ignored", "9.99", "3", "Widget" });
+
+		Assert.assertEquals(product.name, "Widget");
+		Assert.assertEquals(product.quantity, 3);
+		Assert.assertEquals(product.price, Double.valueOf(9.99));
+		Assert.assertTrue(product.active);
+	}
+
+	public void bindsSubsetOfSetters() {
+		Product product = RowMapper.bind(Product.class, new String[] { "Name" }).map(new String[] { "Widget" });
+
+		Assert.assertEquals(product.name, "Widget");
+		Assert.assertEquals(product.quantity, 0);
+		Assert.assertNull(product.price);
+	}
+
+	public void mapsEveryRowIndependently() {
+		RowMapper<Contact> mapper = RowMapper.bind(Contact.class, new String[] { "FullName", "Email" });
+		Contact first = mapper.map(new String[] { "A", "a@test.com" });
+		Contact second = mapper.map(new String[] { "B", "b@test.com" });
+
+		Assert.assertNotSame(first, second);
+		Assert.assertEquals(first.fullName, "A");
+		Assert.assertEquals(second.fullName, "B");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Cannot map columns .* to FormData: no column for \\[zipCode\\]")
+	public void namesMissingConstructorColumn() {
+		String[] header = Arrays.copyOf(FORM_HEADER, FORM_HEADER.length - 1);
+		RowMapper.bind(FormData.class, header);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Cannot map columns .* to Product")
+	public void rejectsHeaderWithNoMatchingSetter() {
+		RowMapper.bind(Product.class, new String[] { "Colour", "Size" });
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Expected at least 11 columns for FormData but found 10: .*")
+	public void rejectsShortRow() {
+		RowMapper.bind(FormData.class, FORM_HEADER).map(new String[] { "a", "b", "c", "d", "e", "f", "g", "h", "i", "j" });
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void propagatesParseFailure() {
+		RowMapper.bind(Product.class, new String[] { "Quantity" }).map(new String[] { "three" });
+	}
+}
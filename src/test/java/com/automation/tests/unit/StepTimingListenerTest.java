@@ -0,0 +1,54 @@
+package com.automation.tests.unit;
+
+import com.automation.utils.StepTimingListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * -------------------------------------------------------------------
+ * Test Case ID:      TC-STEP-001
+ * Title:             Step latency keys drop data from step names
+ * -------------------------------------------------------------------
+ * Description:			Checks that emails, URLs, UUIDs, quoted values
+ * 						and numbers in step names are replaced by
+ * 						placeholders, so steps that differ only by data
+ * 						share one histogram.
+ * Sub-System:      	Reporting (step latency)
+ * Priority:        	P3 (Low)
+ * * Preconditions:		None; unit group, no browser or network.
+ * * Author:          	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+@Test(groups = "unit")
+public class StepTimingListenerTest {
+
+	public void replacesEmails() {
+		Assert.assertEquals(StepTimingListener.keyName("API: Registering user john.doe+1@test.com"),
+				"API: Registering user <email>");
+		Assert.assertEquals(StepTimingListener.keyName("API: Registering user a@b.co.uk"),
+				StepTimingListener.keyName("API: Registering user other@test.com"));
+	}
+
+	public void replacesNumbers() {
+		Assert.assertEquals(StepTimingListener.keyName("Increasing quantity 3 times"), "Increasing quantity <n> times");
+		Assert.assertEquals(StepTimingListener.keyName("API: Registering 120 users (8 in flight)"),
+				"API: Registering <n> users (<n> in flight)");
+		Assert.assertEquals(StepTimingListener.keyName("Total is 1,234.50"), "Total is <n>");
+	}
+
+	public void replacesUrlsUuidsAndQuotedValues() {
+		Assert.assertEquals(StepTimingListener.keyName("Open https://shop.test/index.php?route=product&id=42"),
+				"Open <url>");
+		Assert.assertEquals(StepTimingListener.keyName("Load order 123e4567-e89b-12d3-a456-426614174000"),
+				"Load order <uuid>");
+		Assert.assertEquals(StepTimingListener.keyName("Search for 'MacBook Pro 2'"), "Search for <value>");
+	}
+
+	public void keepsNamesWithoutData() {
+		Assert.assertEquals(StepTimingListener.keyName("Verify cart is empty"), "Verify cart is empty");
+		Assert.assertEquals(StepTimingListener.keyName("Remove iPhone and return to Home"),
+				"Remove iPhone and return to Home");
+		Assert.assertEquals(StepTimingListener.keyName("Login as {email}"), "Login as {email}");
+	}
+}
@@ -1,5 +1,6 @@
 package com.automation.utils;
 
+import com.automation.base.ApiContextProvider;
 import com.automation.models.User;
 import com.microsoft.playwright.APIRequest;
 import com.microsoft.playwright.APIRequestContext;
@@ -12,21 +13,53 @@ import org.slf4j.LoggerFactory;
 
 import com.microsoft.playwright.options.FormData;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class APIService implements AutoCloseable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(APIService.class);
+	// Name of the shared context's cookie jar: registration logs customers in,
+	// so it must not share cookies with the worker's anonymous context
+	private static final String SESSION = "api-service";
+
 	private final APIRequestContext request;
+	private final String baseUrl;
+	// Only contexts this service created itself are disposed on close
+	private final boolean ownsContext;
 
 	public APIService(Playwright playwright) {
-		// Initialize a fresh request context using the base URL from config
-		this.request = playwright.request()
-				.newContext(new APIRequest.NewContextOptions().setBaseURL(ConfigReader.getProperty("baseUrl")));
+		this(playwright, ConfigReader.getProperty("baseUrl"));
+	}
+
+	public APIService(Playwright playwright, String baseUrl) {
+		// Reuse the worker's shared request context for the base URL (kept alive
+		// for the suite, see ApiContextProvider)
+		this.request = ApiContextProvider.get(playwright, baseUrl, null, SESSION);
+		this.baseUrl = baseUrl;
+		this.ownsContext = false;
+	}
+
+	private APIService(Playwright playwright, String baseUrl, boolean ownContext) {
+		// A fresh context for a short-lived engine (seeding lanes)
+		this.request = playwright.request().newContext(new APIRequest.NewContextOptions().setBaseURL(baseUrl));
+		this.baseUrl = baseUrl;
+		this.ownsContext = ownContext;
 	}
 
 	// REQUIRED by 'AutoCloseable' to ensure resources are freed
 	@Override
 	public void close() {
-		request.dispose();
+		if (ownsContext) {
+			request.dispose();
+		}
 	}
 
 	// ... Methods will go here ...
@@ -39,70 +72,185 @@ public class APIService implements AutoCloseable {
 		LOGGER.info("API: Attempting to register user: {}", user.getEmail());
 
 		Allure.step("API: Registering user " + user.getEmail(), () -> {
-			int attempt = 1;
-
-			// Loop up to 2 times to handle email collisions
-			while (attempt <= 2) {
-				// 1. Prepare Form Data
-				// These keys MUST match the 'name' attributes in the HTML form
-				FormData formData = FormData.create().set("firstname", user.getFirstName())
-						.set("lastname", user.getLastName()).set("email", user.getEmail()) // NOTE: uses current
-																							// (potentially updated)
-																							// email
-						.set("telephone", user.getTelephone()).set("password", user.getPassword())
-						.set("confirm", user.getPassword()).set("agree", "1"); // Check the "Privacy Policy" box
-
-				// 2. Execute POST Request
-				// Disable auto-redirects
-				APIResponse response = request.post("index.php?route=account/register",
-						RequestOptions.create().setForm(formData).setMaxRedirects(0));
-
-				LOGGER.info("API Response Status: {} {}", response.status(), response.statusText());
-
-				// 3. Validation Logic
-				// OpenCart redirects (302) to the success page upon valid registration.
-				if (response.status() == 302) {
-					String location = response.headers().get("location");
-					// Robust check: Ensure we are redirecting to the success route
-					if (location != null && location.contains("route=account/success")) {
-						LOGGER.info("API: User registered successfully on attempt {}", attempt);
-						return; // Success! Exit the step and method.
-					} else {
-						throw new RuntimeException("Registration redirected unexpectedly to: " + location);
-					}
-				}
+			register(request, user);
+			LOGGER.info("API: User registered successfully");
+		});
+	}
 
-				// If we didn't redirect, something went wrong.
-				if (response.status() != 200) {
-					// Include the response text so we can see WHY it failed (e.g. 400 Bad Request)
-					String failureBody = response.text();
-					throw new RuntimeException(
-							"API Error " + response.status() + ": " + response.statusText() + "\nBody: " + failureBody);
-				}
+	/**
+	 * Checks that the credentials still log in (one login POST, then logout).
+	 * OpenCart redirects a successful login to "My Account" and re-renders the
+	 * login form on failure.
+	 */
+	public boolean canLogin(String email, String password) {
+		FormData formData = FormData.create().set("email", email).set("password", password);
+		APIResponse response = request.post("index.php?route=account/login",
+				RequestOptions.create().setForm(formData).setMaxRedirects(0));
+		boolean loggedIn = response.status() == 302
+				&& String.valueOf(response.headers().get("location")).contains("route=account/account");
+		if (loggedIn) {
+			// Shared context: leave it anonymous for the next registration or check
+			request.get("index.php?route=account/logout");
+		} else if (response.status() != 200) {
+			throw new RuntimeException("API Error " + response.status() + " checking login of " + email);
+		}
+		return loggedIn;
+	}
+
+	/**
+	 * Registers many users with a bounded number of requests in flight. The
+	 * calling thread registers through this service's context while
+	 * 'seedConcurrency' - 1 helper threads each use their own Playwright and
+	 * request context (Playwright objects must stay on the thread that created
+	 * them). Returns one result per user, in input order; failures do not stop
+	 * the others.
+	 */
+	public List<RegistrationResult> registerUsers(Collection<User> users) {
+		int lanes = Math.max(1, Math.min(users.size(),
+				Integer.parseInt(ConfigReader.getProperty("seedConcurrency", "4"))));
+		List<User> input = new ArrayList<>(users);
+		RegistrationResult[] results = new RegistrationResult[input.size()];
+		AtomicInteger next = new AtomicInteger();
 
-				// Status 200 means we stayed on the page (Validation Error). Read body once.
-				String responseBody = response.text();
-
-				if (responseBody.contains("E-Mail Address is already registered")) {
-					if (attempt < 2) {
-						String newEmail = user.getEmail().replace("@", "_" + System.currentTimeMillis() + "@");
-						LOGGER.warn("Email {} exists! Updating to {} and retrying...", user.getEmail(), newEmail);
-
-						// SIDE EFFECT: We update the User object directly so the calling test
-						// knows which email to use for login.
-						user.setEmail(newEmail);
-						attempt++;
-						continue; // Restart the loop with the new email
-					} else {
-						throw new RuntimeException(
-								"Failed to register user after " + attempt + " attempts. Email collision.");
+		return Allure.step("API: Registering " + input.size() + " users (" + lanes + " in flight)", () -> {
+			long start = System.nanoTime();
+			ExecutorService helpers = lanes > 1 ? Executors.newFixedThreadPool(lanes - 1) : null;
+			List<Future<?>> helperLanes = new ArrayList<>();
+			for (int i = 1; i < lanes; i++) {
+				helperLanes.add(helpers.submit(() -> {
+					try (Playwright playwright = Playwright.create(); APIService lane = new APIService(playwright, baseUrl, true)) {
+						drain(lane.request, input, results, next);
 					}
-				}
+				}));
+			}
+			drain(request, input, results, next);
 
-				// Hard Failure (Unknown validation error)
-				throw new RuntimeException("Failed to register user via API. Response implies validation error. \nBody: " + responseBody);
+			for (Future<?> lane : helperLanes) {
+				try {
+					lane.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException("Interrupted while seeding users", e);
+				} catch (ExecutionException e) {
+					// A lane that could not start (e.g. no Playwright driver); the others
+					// took its users, so only log it
+					LOGGER.warn("API: A seeding lane failed: {}", e.getCause().toString());
+				}
+			}
+			if (helpers != null) {
+				helpers.shutdown();
 			}
+
+			double seconds = (System.nanoTime() - start) / 1e9;
+			long failed = Arrays.stream(results).filter(result -> !result.isSuccess()).count();
+			String summary = String.format("API: Seeded %d users (%d failed) in %.2fs: %.1f users/sec with %d in flight",
+					results.length, failed, seconds, results.length / Math.max(seconds, 1e-9), lanes);
+			LOGGER.info(summary);
+			Allure.addAttachment("Seeding throughput", summary);
+			return Arrays.asList(results);
 		});
 	}
 
+	/** Takes users off the shared cursor until none are left. */
+	private static void drain(APIRequestContext context, List<User> users, RegistrationResult[] results,
+			AtomicInteger next) {
+		int index;
+		while ((index = next.getAndIncrement()) < users.size()) {
+			User user = users.get(index);
+			long start = System.nanoTime();
+			String error = null;
+			try {
+				register(context, user);
+			} catch (RuntimeException e) {
+				error = e.getMessage();
+				LOGGER.warn("API: Failed to register {}: {}", user.getEmail(), error);
+			}
+			results[index] = new RegistrationResult(user, error, (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	/**
+	 * One registration POST. Emails from UniqueIdentity (used by TestDataFactory)
+	 * never collide, so an "already registered" response is a real failure and is
+	 * not retried.
+	 */
+	private static void register(APIRequestContext request, User user) {
+		// 1. Prepare Form Data
+		// These keys MUST match the 'name' attributes in the HTML form
+		FormData formData = FormData.create().set("firstname", user.getFirstName())
+				.set("lastname", user.getLastName()).set("email", user.getEmail())
+				.set("telephone", user.getTelephone()).set("password", user.getPassword())
+				.set("confirm", user.getPassword()).set("agree", "1"); // Check the "Privacy Policy" box
+
+		// 2. Execute POST Request
+		// Disable auto-redirects
+		RequestOptions options = RequestOptions.create().setForm(formData).setMaxRedirects(0);
+		APIResponse response = request.post("index.php?route=account/register", options);
+
+		// A logged-in session is sent to "My Account" instead (e.g. an earlier
+		// logout failed): end it and try once more
+		if (response.status() == 302 && String.valueOf(response.headers().get("location"))
+				.contains("route=account/account")) {
+			LOGGER.warn("API: Request context was still logged in; logging out before registering");
+			request.get("index.php?route=account/logout");
+			response = request.post("index.php?route=account/register", options);
+		}
+
+		LOGGER.info("API Response Status: {} {}", response.status(), response.statusText());
+
+		// 3. Validation Logic
+		// OpenCart redirects (302) to the success page upon valid registration.
+		if (response.status() == 302) {
+			String location = response.headers().get("location");
+			// Robust check: Ensure we are redirecting to the success route
+			if (location != null && location.contains("route=account/success")) {
+				// OpenCart logs the new customer in, and a logged-in session is
+				// redirected away from the register page. Log out so the next
+				// registration on this context starts anonymous again.
+				request.get("index.php?route=account/logout");
+				return; // Success!
+			} else {
+				throw new RuntimeException("Registration redirected unexpectedly to: " + location);
+			}
+		}
+
+		// If we didn't redirect, something went wrong.
+		if (response.status() != 200) {
+			// Include the response text so we can see WHY it failed (e.g. 400 Bad Request)
+			String failureBody = response.text();
+			throw new RuntimeException(
+					"API Error " + response.status() + ": " + response.statusText() + "\nBody: " + failureBody);
+		}
+
+		// Status 200 means we stayed on the page (Validation Error). Read body once.
+		String responseBody = response.text();
+
+		if (responseBody.contains("E-Mail Address is already registered")) {
+			throw new RuntimeException("Email " + user.getEmail()
+					+ " is already registered. Use UniqueIdentity.email(..) for collision-free test emails.");
+		}
+
+		// Hard Failure (Unknown validation error)
+		throw new RuntimeException("Failed to register user via API. Response implies validation error. \nBody: " + responseBody);
+	}
+
+	/** Outcome of one registration in {@link #registerUsers}. */
+	public static final class RegistrationResult {
+		private final User user;
+		private final String error;
+		private final long millis;
+
+		private RegistrationResult(User user, String error, long millis) {
+			this.user = user;
+			this.error = error;
+			this.millis = millis;
+		}
+
+		public User getUser() { return user; }
+		public boolean isSuccess() { return error == null; }
+		/** Failure message, or null on success. */
+		public String getError() { return error; }
+		public long getMillis() { return millis; }
+	}
+
 }
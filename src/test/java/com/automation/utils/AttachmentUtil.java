@@ -0,0 +1,167 @@
+package com.automation.utils;
+
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attaches on-disk artifacts (traces, screenshots) to the Allure report.
+ * Files are streamed straight from disk instead of being read into a byte[],
+ * and anything larger than 'attachmentMaxBytes' is attached as a link to the
+ * file rather than copied into allure-results.
+ *
+ * The async variants register the attachment with Allure on the calling (test)
+ * thread, then write the file and copy it into allure-results on a bounded
+ * background executor. Call {@link #flush(long)} before the JVM exits.
+ */
+public class AttachmentUtil {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentUtil.class);
+
+	// Default cap: 10 MB
+	private static final long MAX_BYTES = Long.parseLong(ConfigReader.getProperty("attachmentMaxBytes", "10485760"));
+
+	// Bounded background writer. When the queue is full the calling thread runs
+	// the task itself, which also caps the screenshot bytes held in memory.
+	private static final int WRITER_THREADS = Integer.parseInt(ConfigReader.getProperty("artifactWriterThreads", "2"));
+	private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(WRITER_THREADS, WRITER_THREADS, 30,
+			TimeUnit.SECONDS, new ArrayBlockingQueue<>(Integer.parseInt(ConfigReader.getProperty("artifactWriterQueue", "32"))),
+			runnable -> {
+				Thread thread = new Thread(runnable, "artifact-writer");
+				thread.setDaemon(true);
+				return thread;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+	private static final Object PENDING_LOCK = new Object();
+	private static int pending;
+
+	private interface IoTask {
+		void run() throws IOException;
+	}
+
+	public static void attachFile(String name, String contentType, Path file, String extension) {
+		if (!Files.exists(file)) {
+			LOGGER.warn("Cannot attach '{}': {} does not exist", name, file);
+			return;
+		}
+
+		try {
+			long size = Files.size(file);
+			if (size > MAX_BYTES) {
+				attachLink(name, file, size);
+				return;
+			}
+
+			try (InputStream in = Files.newInputStream(file)) {
+				Allure.addAttachment(name, contentType, in, extension);
+			}
+		} catch (IOException e) {
+			LOGGER.warn("Failed to attach '{}' from {}: {}", name, file, e.getMessage());
+		}
+	}
+
+	/**
+	 * Same as {@link #attachFile} but copies the file into allure-results in the
+	 * background.
+	 */
+	public static void attachFileAsync(String name, String contentType, Path file, String extension) {
+		long size;
+		try {
+			size = Files.size(file);
+		} catch (IOException e) {
+			LOGGER.warn("Cannot attach '{}': {} is not readable ({})", name, file, e.getMessage());
+			return;
+		}
+		if (size > MAX_BYTES) {
+			attachLink(name, file, size);
+			return;
+		}
+
+		// Must run on the test thread: Allure tracks the running test per thread
+		String source = Allure.getLifecycle().prepareAttachment(name, contentType, extension);
+		submit(name, () -> {
+			try (InputStream in = Files.newInputStream(file)) {
+				Allure.getLifecycle().writeAttachment(source, in);
+			}
+		});
+	}
+
+	/**
+	 * Writes already-captured bytes (e.g. a screenshot) to disk and attaches them,
+	 * both in the background.
+	 */
+	public static void attachBytesAsync(String name, String contentType, byte[] content, Path saveTo,
+			String extension) {
+		String source = null;
+		if (content.length > MAX_BYTES) {
+			attachLink(name, saveTo, content.length);
+		} else {
+			source = Allure.getLifecycle().prepareAttachment(name, contentType, extension);
+		}
+
+		String attachmentSource = source;
+		submit(name, () -> {
+			Files.write(saveTo, content);
+			if (attachmentSource != null) {
+				Allure.getLifecycle().writeAttachment(attachmentSource, new ByteArrayInputStream(content));
+			}
+		});
+	}
+
+	/**
+	 * Blocks until every queued artifact has been written, or the timeout
+	 * elapses. Returns false if artifacts were still pending.
+	 */
+	public static boolean flush(long timeoutMs) {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		synchronized (PENDING_LOCK) {
+			while (pending > 0) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					LOGGER.warn("Timed out flushing artifacts: {} still pending", pending);
+					return false;
+				}
+				try {
+					PENDING_LOCK.wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void attachLink(String name, Path file, long size) {
+		// Too big to copy: link to the file (archived by CI) instead
+		LOGGER.info("'{}' is {} bytes (cap {}). Attaching link to {}", name, size, MAX_BYTES, file.toAbsolutePath());
+		Allure.addAttachment(name + " (link)", "text/uri-list", file.toAbsolutePath().toUri().toString());
+	}
+
+	private static void submit(String name, IoTask task) {
+		synchronized (PENDING_LOCK) {
+			pending++;
+		}
+		WRITER.execute(() -> {
+			try {
+				task.run();
+			} catch (Exception e) {
+				LOGGER.warn("Failed to write artifact '{}': {}", name, e.getMessage());
+			} finally {
+				synchronized (PENDING_LOCK) {
+					pending--;
+					PENDING_LOCK.notifyAll();
+				}
+			}
+		});
+	}
+}
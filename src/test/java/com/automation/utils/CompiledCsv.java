@@ -0,0 +1,263 @@
+package com.automation.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	CompiledCsv
+ * Description:       	A CSV file parsed once into a compact binary file
+ * 						that later runs and forks memory-map instead of
+ * 						re-parsing.
+ * Responsibilities:
+ * 1. Compile:        	Parses the CSV with CsvReader and writes every
+ * 						record plus a per-record offset table to
+ * 						<cacheDir>/<file>-<pathHash>-<key>.bin. The key
+ * 						hashes the source path, size and mtime, so an
+ * 						edited CSV is recompiled; older versions of the
+ * 						same source path (same prefix) are deleted.
+ * 						Same-named files in other folders never touch
+ * 						each other's cache.
+ * 						A lock per source path lets one fork compile (and
+ * 						delete stale versions) while the others wait, and
+ * 						readers hold it shared while they check for and
+ * 						map the file, so it is not deleted under them.
+ * 2. Access:         	Maps the file read-only and decodes a row only when
+ * 						it is asked for; any row can be read directly by
+ * 						index (e.g. one shard's slice of the data).
+ * File layout:       	"CSVB" magic, version, records (field count, then
+ * 						length-prefixed UTF-8 fields), offset table, then a
+ * 						trailer with the table position and record count.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public final class CompiledCsv {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompiledCsv.class);
+
+	private static final int MAGIC = 0x43535642; // "CSVB"
+	private static final int VERSION = 1;
+	// offset table position (long) + record count (int) + magic (int)
+	private static final int TRAILER_BYTES = 16;
+
+	// FileLocks are per JVM, not per thread: threads of one JVM queue here first
+	private static final Map<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+	private final Path file;
+	private final ByteBuffer buffer;
+	private final int offsetTable;
+	private final int recordCount;
+	private final String[] header;
+
+	private CompiledCsv(Path file, MappedByteBuffer buffer) {
+		this.file = file;
+		this.buffer = buffer;
+		int trailer = buffer.limit() - TRAILER_BYTES;
+		if (buffer.limit() < 8 + TRAILER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+				|| buffer.getInt(trailer + 12) != MAGIC) {
+			throw new IllegalStateException("Not a compiled CSV file (or an old version): " + file);
+		}
+		this.offsetTable = (int) buffer.getLong(trailer);
+		this.recordCount = buffer.getInt(trailer + 8);
+		this.header = recordCount > 0 ? record(0) : new String[0];
+	}
+
+	/**
+	 * Returns the compiled form of the CSV, compiling it first if the cache has
+	 * no file for its current path, size and mtime.
+	 */
+	public static CompiledCsv open(Path csv, Path cacheDir) {
+		try {
+			Files.createDirectories(cacheDir);
+			// Everything for this source path shares the prefix (and its lock)
+			String prefix = csv.getFileName() + "-" + hash(csv.toAbsolutePath().normalize().toString());
+			Path compiled = cacheDir.resolve(prefix + "-" + cacheKey(csv) + ".bin");
+			Path lockFile = cacheDir.resolve(prefix + ".lock").toAbsolutePath();
+
+			synchronized (JVM_LOCKS.computeIfAbsent(lockFile, key -> new Object())) {
+				try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+						StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+					// Shared: other forks may read too, but none deletes it meanwhile
+					try (FileLock shared = channel.lock(0, Long.MAX_VALUE, true)) {
+						if (Files.exists(compiled)) {
+							return map(compiled);
+						}
+					}
+					// Cross-fork: one JVM compiles, the others wait here and map its file
+					try (FileLock exclusive = channel.lock()) {
+						if (!Files.exists(compiled)) {
+							compile(csv, compiled);
+							deleteStale(cacheDir, prefix, compiled);
+						}
+						return map(compiled);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to open compiled CSV for " + csv, e);
+		}
+	}
+
+	private static CompiledCsv map(Path compiled) throws IOException {
+		try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Compiled CSV exceeds 2 GB: " + compiled);
+			}
+			// The mapping stays valid after the channel is closed
+			return new CompiledCsv(compiled, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/** The first record of the file. */
+	public String[] getHeader() {
+		return header.clone();
+	}
+
+	/** Number of data rows (records after the header). */
+	public int size() {
+		return Math.max(0, recordCount - 1);
+	}
+
+	/** Decodes data row {@code index} (0-based, header excluded). */
+	public String[] getRow(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Row " + index + " of " + size() + " in " + file);
+		}
+		return record(index + 1);
+	}
+
+	/** Iterates data rows [from, to), decoding each one as it is reached. */
+	public Iterator<String[]> rows(int from, int to) {
+		if (from < 0 || to > size() || from > to) {
+			throw new IndexOutOfBoundsException("Rows [" + from + ", " + to + ") of " + size() + " in " + file);
+		}
+		return new Iterator<String[]>() {
+			private int next = from;
+
+			@Override
+			public boolean hasNext() {
+				return next < to;
+			}
+
+			@Override
+			public String[] next() {
+				if (next >= to) {
+					throw new NoSuchElementException();
+				}
+				return getRow(next++);
+			}
+		};
+	}
+
+	private String[] record(int index) {
+		// Absolute reads on a private view: safe to call from several threads
+		ByteBuffer view = buffer.duplicate();
+		view.position(buffer.getInt(offsetTable + index * 4));
+		String[] fields = new String[view.getInt()];
+		for (int i = 0; i < fields.length; i++) {
+			byte[] bytes = new byte[view.getInt()];
+			view.get(bytes);
+			fields[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return fields;
+	}
+
+	private static void compile(Path csv, Path compiled) throws IOException {
+		long start = System.currentTimeMillis();
+		Path tmp = Files.createTempFile(compiled.getParent(), csv.getFileName().toString(), ".tmp");
+		int[] offsets = new int[1024];
+		int count = 0;
+
+		try (CsvReader reader = new CsvReader(Files.newBufferedReader(csv, StandardCharsets.UTF_8));
+				DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tmp), 64 * 1024))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			while (reader.hasNext()) {
+				String[] fields = reader.next();
+				if (count == offsets.length) {
+					offsets = Arrays.copyOf(offsets, count * 2);
+				}
+				offsets[count++] = out.size();
+				out.writeInt(fields.length);
+				for (String field : fields) {
+					byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(bytes.length);
+					out.write(bytes);
+				}
+				// size() saturates at Integer.MAX_VALUE instead of overflowing
+				if (out.size() == Integer.MAX_VALUE) {
+					throw new IllegalStateException("CSV is too large to compile (over 2 GB): " + csv);
+				}
+			}
+			long table = out.size();
+			for (int i = 0; i < count; i++) {
+				out.writeInt(offsets[i]);
+			}
+			out.writeLong(table);
+			out.writeInt(count);
+			out.writeInt(MAGIC);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tmp);
+			throw e;
+		}
+
+		Files.move(tmp, compiled, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		LOGGER.info("Compiled {} ({} records) to {} in {}ms", csv, count, compiled,
+				System.currentTimeMillis() - start);
+	}
+
+	/** Removes compiled files of earlier versions of the same CSV (same path). */
+	private static void deleteStale(Path cacheDir, String prefix, Path current) {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, prefix + "-*.bin")) {
+			for (Path file : files) {
+				if (!file.equals(current)) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.debug("Could not clean old compiled files for {}: {}", prefix, e.getMessage());
+		}
+	}
+
+	private static String cacheKey(Path csv) throws IOException {
+		return hash(csv.toAbsolutePath().normalize() + "|" + Files.size(csv) + "|"
+				+ Files.getLastModifiedTime(csv).toMillis());
+	}
+
+	// First 8 bytes of SHA-256, in hex
+	private static String hash(String identity) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (int i = 0; i < 8; i++) {
+				hex.append(String.format("%02x", digest[i]));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -18,7 +18,18 @@ public class ConfigReader {
         }
     }
 
+    // CLI/system properties win here too, so values set at runtime (e.g. the
+    // local server's baseUrl) reach every caller
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return getProperty(key, null);
+    }
+
+    // Priority: CLI (-Dkey=...) -> config.properties -> supplied default
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return value != null ? value : defaultValue;
     }
 }
@@ -0,0 +1,17 @@
+package com.automation.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Other CSV header names for a model property, e.g. {@code @CsvAlias("Zip")}
+ * on {@code zipCode}. {@link RowMapper} tries the property name first, then
+ * each alias (same case- and punctuation-insensitive comparison).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface CsvAlias {
+	String[] value();
+}
@@ -0,0 +1,171 @@
+package com.automation.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	CsvReader
+ * Description:       	Streaming RFC 4180 CSV parser: reads one record at
+ * 						a time, so memory stays constant for any file size.
+ * Responsibilities:
+ * 1. Quoting:        	Fields in double quotes may contain commas, line
+ * 						breaks and escaped quotes ("").
+ * 2. Line endings:   	Accepts CRLF, LF and CR record separators.
+ * 3. BOM:            	Strips a leading UTF-8 byte order mark.
+ * 4. Blank lines:    	Empty lines between records are skipped (a line
+ * 						holding only "" is a record with one empty field).
+ * 5. Line numbers:   	Tracks the physical line each record starts on, for
+ * 						error messages.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class CsvReader implements Iterator<String[]>, Closeable {
+
+	private final Reader in;
+	private final StringBuilder field = new StringBuilder();
+	private final List<String> record = new ArrayList<>();
+
+	private String[] next;
+	private boolean finished;
+	private long line = 1;
+	private long recordLine;
+	private int pushedBack = -2;
+
+	public CsvReader(Reader reader) {
+		this.in = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null && !finished) {
+			try {
+				next = readRecord();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to read CSV record at line " + line, e);
+			}
+			finished = next == null;
+		}
+		return next != null;
+	}
+
+	@Override
+	public String[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		String[] current = next;
+		next = null;
+		return current;
+	}
+
+	/** Physical line on which the record last returned by next() started. */
+	public long getLineNumber() {
+		return recordLine;
+	}
+
+	@Override
+	public void close() throws IOException {
+		finished = true;
+		in.close();
+	}
+
+	private String[] readRecord() throws IOException {
+		int c = read();
+		if (line == 1 && recordLine == 0 && c == '\uFEFF') {
+			c = read();
+		}
+		// Blank lines would otherwise become one-field records
+		while (c == '\r' || c == '\n') {
+			if (c == '\r') {
+				int peek = read();
+				if (peek != '\n') {
+					unread(peek);
+				}
+			}
+			line++;
+			c = read();
+		}
+		if (c == -1) {
+			return null;
+		}
+		recordLine = line;
+		record.clear();
+		field.setLength(0);
+		boolean quoted = false;
+		boolean afterQuote = false;
+
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new IllegalArgumentException("Unterminated quoted field starting at line " + recordLine);
+				}
+				if (c == '"') {
+					int peek = read();
+					if (peek == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						afterQuote = true;
+						c = peek;
+						continue;
+					}
+				} else {
+					if (c == '\n') {
+						line++;
+					}
+					field.append((char) c);
+				}
+			} else if (c == ',') {
+				endField();
+				afterQuote = false;
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r') {
+					int peek = read();
+					if (peek != '\n') {
+						unread(peek);
+					}
+				}
+				if (c != -1) {
+					line++;
+				}
+				endField();
+				return record.toArray(new String[0]);
+			} else if (c == '"' && field.length() == 0 && !afterQuote) {
+				quoted = true;
+			} else if (afterQuote) {
+				throw new IllegalArgumentException(
+						"Unexpected character '" + (char) c + "' after closing quote at line " + line);
+			} else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	private void endField() {
+		record.add(field.toString());
+		field.setLength(0);
+	}
+
+	private int read() throws IOException {
+		if (pushedBack != -2) {
+			int c = pushedBack;
+			pushedBack = -2;
+			return c;
+		}
+		return in.read();
+	}
+
+	private void unread(int c) {
+		pushedBack = c;
+	}
+}
@@ -1,69 +1,116 @@
 package com.automation.utils;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import com.automation.models.FormData;
 
 public class CsvUtil {
 
+	// Compiled (binary, memory-mapped) copies of data files, shared by forks
+	private static final boolean DATASET_CACHE = Boolean
+			.parseBoolean(ConfigReader.getProperty("datasetCache", "true"));
+	private static final String DATASET_CACHE_DIR = ConfigReader.getProperty("datasetCacheDir",
+			"target/dataset-cache");
+
 	public static Object[][] getFormDataFromCsv(String filePath) {
 		List<Object[]> dataList = new ArrayList<>();
+		streamFormDataFromCsv(filePath).forEachRemaining(dataList::add);
 
-		// Use try-with-resources to ensure the file closes automatically
-		try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-			String line;
-			// Skip the header row
-			br.readLine();
-
-			while ((line = br.readLine()) != null) {
-				// Split by comma
-				String[] data = line.split(",");
+		// Convert List to 2D Array for TestNG
+		return dataList.toArray(new Object[0][0]);
+	}
 
-				// 1. Validate Column Count
-				// We expect exactly 11 columns to match our FormData fields.
-				if (data.length < 11) {
-				    throw new IllegalArgumentException("Invalid CSV row – expected 11 columns but found " + data.length + "\n" +
-				    		 "Raw line: " + line + "\n" +
-				    		 "Columns parsed: " + java.util.Arrays.toString(data)
-				    		);
-				  }
+	public static Iterator<Object[]> streamFormDataFromCsv(String filePath) {
+		return streamCsv(filePath, FormData.class);
+	}
 
+	/**
+	 * Streams the CSV as TestNG data provider rows, one model per record. The
+	 * header row is bound to the model's constructor or setters once (see
+	 * {@link RowMapper}), so column order does not matter and any model works.
+	 * Rows are decoded as TestNG asks for them, so large files start immediately
+	 * and use constant memory. With 'datasetCache' on, rows come from the
+	 * compiled copy (see {@link CompiledCsv}); otherwise the CSV itself is parsed
+	 * and closed once the last row is read.
+	 */
+	public static <T> Iterator<Object[]> streamCsv(String filePath, Class<T> type) {
+		if (DATASET_CACHE) {
+			CompiledCsv compiled = CompiledCsv.open(Paths.get(filePath), Paths.get(DATASET_CACHE_DIR));
+			RowMapper<T> mapper = RowMapper.bind(type, trim(compiled.getHeader()));
+			Iterator<String[]> rows = compiled.rows(0, compiled.size());
+			return new Iterator<Object[]>() {
+				private int row;
 
-				// 2. Trim Whitespace & Handle BOM
-				for (int i = 0; i < data.length; i++) {
-					data[i] = data[i].trim();
-					// Strip UTF-8 BOM if present on the first column
-					if (i == 0 && data[i].startsWith("\uFEFF")) {
-						data[i] = data[i].substring(1);
-					}
+				@Override
+				public boolean hasNext() {
+					return rows.hasNext();
 				}
 
-				// Map CSV columns to our POJO fields
-				// Note: This relies on strict column ordering.
-				FormData formData = new FormData(data[0], // Name
-						data[1], // Email
-						data[2], // Password
-						data[3], // Company
-						data[4], // Website
-						data[5], // Country
-						data[6], // City
-						data[7], // Address 1
-						data[8], // Address 2 
-						data[9], // State
-						data[10] // Zip
-				);
+				@Override
+				public Object[] next() {
+					// Row n is on line n + 1 unless quoted fields span lines
+					return toRow(mapper, rows.next(), filePath + " row " + (++row));
+				}
+			};
+		}
 
-				// Wrap in Object array for TestNG DataProvider
-				dataList.add(new Object[] { formData });
-			}
+		CsvReader reader;
+		try {
+			reader = new CsvReader(Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8));
 		} catch (IOException e) {
 			throw new RuntimeException("Failed to read CSV file: " + filePath, e);
 		}
+		if (!reader.hasNext()) {
+			throw new IllegalArgumentException("CSV file has no header row: " + filePath);
+		}
+		RowMapper<T> mapper = RowMapper.bind(type, trim(reader.next()));
 
-		// Convert List to 2D Array for TestNG
-		return dataList.toArray(new Object[0][0]);
+		return new Iterator<Object[]>() {
+			@Override
+			public boolean hasNext() {
+				try {
+					if (reader.hasNext()) {
+						return true;
+					}
+					reader.close();
+					return false;
+				} catch (IOException e) {
+					throw new UncheckedIOException("Failed to close CSV file: " + filePath, e);
+				}
+			}
+
+			@Override
+			public Object[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				String[] data = reader.next();
+				return toRow(mapper, data, filePath + ":" + reader.getLineNumber());
+			}
+		};
+	}
+
+	private static Object[] toRow(RowMapper<?> mapper, String[] data, String location) {
+		try {
+			// Wrap in Object array for TestNG DataProvider
+			return new Object[] { mapper.map(trim(data)) };
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid CSV row at " + location + ": " + e.getMessage(), e);
+		}
+	}
+
+	// Trim Whitespace (in place)
+	private static String[] trim(String[] data) {
+		for (int i = 0; i < data.length; i++) {
+			data[i] = data[i].trim();
+		}
+		return data;
 	}
 }
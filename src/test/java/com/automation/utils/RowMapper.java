@@ -0,0 +1,285 @@
+package com.automation.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	RowMapper
+ * Description:       	Maps CSV rows (String[]) to any model class by
+ * 						matching header names to its properties.
+ * Responsibilities:
+ * 1. Binding:        	Resolved once per file. Prefers a constructor whose
+ * 						parameters all have a column; otherwise uses the
+ * 						no-arg constructor plus setX(..) setters. Names are
+ * 						compared ignoring case, spaces and punctuation
+ * 						("Address 1" = address1). A field annotated with
+ * 						@CsvAlias also matches the listed header names,
+ * 						so existing files need no renaming.
+ * 2. Mapping:        	Each binding is a MethodHandle that reads its column
+ * 						straight from the row array, so mapping a row only
+ * 						allocates the model (and parsed numbers).
+ * 3. Conversion:     	String, int, long, double and boolean properties
+ * 						(and their wrappers) are parsed from the column.
+ * Note:              	Constructor parameter names need javac -parameters
+ * 						(set in the pom). Without them, the class's
+ * 						instance fields in declaration order are used as
+ * 						the parameter names when count and types agree.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public final class RowMapper<T> {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+	private static final MethodHandle COLUMN = MethodHandles.arrayElementGetter(String[].class);
+	private static final Map<Class<?>, MethodHandle> PARSERS = new HashMap<>();
+
+	static {
+		try {
+			PARSERS.put(int.class, LOOKUP.findStatic(Integer.class, "parseInt",
+					MethodType.methodType(int.class, String.class)));
+			PARSERS.put(Integer.class, LOOKUP.findStatic(Integer.class, "valueOf",
+					MethodType.methodType(Integer.class, String.class)));
+			PARSERS.put(long.class, LOOKUP.findStatic(Long.class, "parseLong",
+					MethodType.methodType(long.class, String.class)));
+			PARSERS.put(Long.class, LOOKUP.findStatic(Long.class, "valueOf",
+					MethodType.methodType(Long.class, String.class)));
+			PARSERS.put(double.class, LOOKUP.findStatic(Double.class, "parseDouble",
+					MethodType.methodType(double.class, String.class)));
+			PARSERS.put(Double.class, LOOKUP.findStatic(Double.class, "valueOf",
+					MethodType.methodType(Double.class, String.class)));
+			PARSERS.put(boolean.class, LOOKUP.findStatic(Boolean.class, "parseBoolean",
+					MethodType.methodType(boolean.class, String.class)));
+			PARSERS.put(Boolean.class, LOOKUP.findStatic(Boolean.class, "valueOf",
+					MethodType.methodType(Boolean.class, String.class)));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Class<T> type;
+	// (String[])Object: builds the whole model (constructor binding)
+	private final MethodHandle factory;
+	// ()Object plus (Object,String[])void per column (setter binding)
+	private final MethodHandle newInstance;
+	private final MethodHandle[] setters;
+	private final int requiredColumns;
+
+	private RowMapper(Class<T> type, MethodHandle factory, MethodHandle newInstance, MethodHandle[] setters,
+			int requiredColumns) {
+		this.type = type;
+		this.factory = factory;
+		this.newInstance = newInstance;
+		this.setters = setters;
+		this.requiredColumns = requiredColumns;
+	}
+
+	/**
+	 * Resolves how the header's columns map onto the type. Fails fast, naming
+	 * the unmatched properties, if no constructor or setter set fits.
+	 */
+	public static <T> RowMapper<T> bind(Class<T> type, String[] header) {
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < header.length; i++) {
+			columns.putIfAbsent(normalize(header[i]), i);
+		}
+
+		try {
+			// 1. Constructor: the one with the most parameters that are all columns
+			Constructor<?> best = null;
+			int[] bestColumns = null;
+			List<String> closestMiss = null;
+			for (Constructor<?> constructor : type.getConstructors()) {
+				String[] names = parameterNames(type, constructor);
+				int[] bound = new int[names.length];
+				List<String> missing = new ArrayList<>();
+				for (int i = 0; i < names.length; i++) {
+					Integer column = column(type, names[i], columns);
+					bound[i] = column == null ? -1 : column;
+					if (column == null || !convertible(constructor.getParameterTypes()[i])) {
+						missing.add(names[i]);
+					}
+				}
+				if (missing.isEmpty() && names.length > 0 && (best == null || names.length > bestColumns.length)) {
+					best = constructor;
+					bestColumns = bound;
+				} else if (!missing.isEmpty() && (closestMiss == null || missing.size() < closestMiss.size())) {
+					closestMiss = missing;
+				}
+			}
+			if (best != null) {
+				return new RowMapper<>(type, constructorFactory(best, bestColumns), null, null, max(bestColumns) + 1);
+			}
+
+			// 2. No-arg constructor + setters
+			Constructor<T> noArg = noArgConstructor(type);
+			if (noArg != null) {
+				Map<Integer, MethodHandle> bound = new LinkedHashMap<>();
+				for (Method method : type.getMethods()) {
+					Integer column = method.getName().startsWith("set") && method.getParameterCount() == 1
+							&& convertible(method.getParameterTypes()[0])
+									? column(type, method.getName().substring(3), columns)
+									: null;
+					if (column != null && !bound.containsKey(column)) {
+						bound.put(column, setter(method, column));
+					}
+				}
+				if (!bound.isEmpty()) {
+					int[] used = bound.keySet().stream().mapToInt(Integer::intValue).toArray();
+					return new RowMapper<>(type, null,
+							LOOKUP.unreflectConstructor(noArg).asType(MethodType.methodType(Object.class)),
+							bound.values().toArray(new MethodHandle[0]), max(used) + 1);
+				}
+			}
+
+			throw new IllegalArgumentException("Cannot map columns " + Arrays.toString(header) + " to "
+					+ type.getSimpleName() + (closestMiss != null ? ": no column for " + closestMiss : ""));
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException("Cannot access constructor or setters of " + type.getName(), e);
+		}
+	}
+
+	/** Column for a property: its own name first, then its @CsvAlias names. */
+	private static Integer column(Class<?> type, String property, Map<String, Integer> columns) {
+		Integer column = columns.get(normalize(property));
+		if (column != null) {
+			return column;
+		}
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				CsvAlias alias = field.getAnnotation(CsvAlias.class);
+				if (alias != null && normalize(field.getName()).equals(normalize(property))) {
+					for (String name : alias.value()) {
+						column = columns.get(normalize(name));
+						if (column != null) {
+							return column;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/** Builds the model for one row. */
+	public T map(String[] row) {
+		if (row.length < requiredColumns) {
+			throw new IllegalArgumentException("Expected at least " + requiredColumns + " columns for "
+					+ type.getSimpleName() + " but found " + row.length + ": " + Arrays.toString(row));
+		}
+		try {
+			if (factory != null) {
+				return type.cast((Object) factory.invokeExact(row));
+			}
+			Object model = (Object) newInstance.invokeExact();
+			for (MethodHandle setter : setters) {
+				setter.invokeExact(model, row);
+			}
+			return type.cast(model);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException("Failed to map row to " + type.getSimpleName() + ": " + Arrays.toString(row), e);
+		}
+	}
+
+	private static MethodHandle constructorFactory(Constructor<?> constructor, int[] bound)
+			throws IllegalAccessException {
+		MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+		Class<?>[] types = constructor.getParameterTypes();
+		// Each parameter becomes (String[])param: read column, then parse
+		MethodHandle[] readers = new MethodHandle[types.length];
+		for (int i = 0; i < types.length; i++) {
+			readers[i] = column(bound[i], types[i]);
+		}
+		handle = MethodHandles.filterArguments(handle, 0, readers);
+		// Every parameter reads from the same row array
+		handle = MethodHandles.permuteArguments(handle, MethodType.methodType(constructor.getDeclaringClass(),
+				String[].class), new int[types.length]);
+		return handle.asType(MethodType.methodType(Object.class, String[].class));
+	}
+
+	private static MethodHandle setter(Method method, int column) throws IllegalAccessException {
+		MethodHandle handle = MethodHandles.filterArguments(LOOKUP.unreflect(method), 1,
+				column(column, method.getParameterTypes()[0]));
+		// asType to void also drops the result of fluent setters
+		return handle.asType(MethodType.methodType(void.class, Object.class, String[].class));
+	}
+
+	/** (String[])type: row[column], parsed when the target is not a String. */
+	private static MethodHandle column(int column, Class<?> target) {
+		MethodHandle read = MethodHandles.insertArguments(COLUMN, 1, column);
+		return target == String.class ? read : MethodHandles.filterReturnValue(read, PARSERS.get(target));
+	}
+
+	private static boolean convertible(Class<?> target) {
+		return target == String.class || PARSERS.containsKey(target);
+	}
+
+	private static String[] parameterNames(Class<?> type, Constructor<?> constructor) {
+		Parameter[] parameters = constructor.getParameters();
+		String[] names = new String[parameters.length];
+		boolean present = true;
+		for (int i = 0; i < parameters.length; i++) {
+			present &= parameters[i].isNamePresent();
+			names[i] = parameters[i].getName();
+		}
+		if (present) {
+			return names;
+		}
+
+		// Compiled without -parameters: assume fields are declared in parameter order
+		List<Field> fields = new ArrayList<>();
+		for (Field field : type.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+				fields.add(field);
+			}
+		}
+		if (fields.size() != parameters.length) {
+			return names;
+		}
+		for (int i = 0; i < parameters.length; i++) {
+			if (fields.get(i).getType() != parameters[i].getType()) {
+				return names;
+			}
+			names[i] = fields.get(i).getName();
+		}
+		return names;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Constructor<T> noArgConstructor(Class<T> type) {
+		for (Constructor<?> constructor : type.getConstructors()) {
+			if (constructor.getParameterCount() == 0) {
+				return (Constructor<T>) constructor;
+			}
+		}
+		return null;
+	}
+
+	private static int max(int[] values) {
+		int max = -1;
+		for (int value : values) {
+			max = Math.max(max, value);
+		}
+		return max;
+	}
+
+	private static String normalize(String name) {
+		return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,145 @@
+package com.automation.utils;
+
+import com.google.gson.GsonBuilder;
+import io.qameta.allure.Allure;
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.StepResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	StepTimingListener
+ * Description:       	Records the wall time of every Allure.step into a
+ * 						per-step-name latency histogram for the whole run.
+ * Responsibilities:
+ * 1. Recording:      	Registered with Allure through
+ * 						META-INF/services, so page objects need no
+ * 						changes; nested steps are timed individually.
+ * 2. Keying:         	Data in step names is replaced by placeholders
+ * 						(step parameters by {name}; emails, URLs, UUIDs,
+ * 						quoted values and numbers by <email>, <url>, ...),
+ * 						so "API: Registering user a@b.com" and "... c@d.com"
+ * 						share one histogram instead of using up the
+ * 						stepLatencyMaxNames slots.
+ * 3. Reporting:      	writeReport() writes count/mean/p50/p95/p99/max
+ * 						per step to JSON and attaches it to Allure.
+ * Configuration:     	stepLatencyFile, stepLatencyMaxNames.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public class StepTimingListener implements StepLifecycleListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StepTimingListener.class);
+
+	// Safety net for data keyName() does not recognise: names past the cap are
+	// folded into one bucket.
+	private static final int MAX_NAMES = Integer.parseInt(ConfigReader.getProperty("stepLatencyMaxNames", "500"));
+	private static final String OTHER = "<other steps>";
+
+	// Applied in order, so a URL or email is replaced before the numbers in it
+	private static final Pattern[] DATA = {
+			Pattern.compile("\\b[a-z][a-z0-9+.-]*://\\S+", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("[\\w.%+-]+@[\\w-]+(\\.[\\w-]+)+"),
+			Pattern.compile("\\b[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\b", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("'[^']*'|\"[^\"]*\""),
+			Pattern.compile("-?\\b\\d+([.,]\\d+)*\\b") };
+	private static final String[] PLACEHOLDERS = { "<url>", "<email>", "<uuid>", "<value>", "<n>" };
+
+	private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+	@Override
+	public void afterStepStop(StepResult result) {
+		if (result.getName() == null || result.getStart() == null || result.getStop() == null) {
+			return;
+		}
+		String name = result.getName();
+		// @Step parameters: put the template back, e.g. "Log in as {email}"
+		if (result.getParameters() != null) {
+			for (Parameter parameter : result.getParameters()) {
+				String value = parameter.getValue();
+				if (value != null && !value.isEmpty() && parameter.getName() != null) {
+					name = name.replace(value, "{" + parameter.getName() + "}");
+				}
+			}
+		}
+		name = keyName(name);
+		if (!HISTOGRAMS.containsKey(name) && HISTOGRAMS.size() >= MAX_NAMES) {
+			name = OTHER;
+		}
+		HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram()).record(result.getStop() - result.getStart());
+	}
+
+	/**
+	 * Histogram key for a step name: emails, URLs, UUIDs, quoted values and
+	 * numbers are replaced by placeholders so per-test data does not create a
+	 * new key (e.g. "Increasing quantity 3 times" -> "Increasing quantity <n> times").
+	 */
+	public static String keyName(String stepName) {
+		String key = stepName;
+		for (int i = 0; i < DATA.length; i++) {
+			key = DATA[i].matcher(key).replaceAll(PLACEHOLDERS[i]);
+		}
+		return key;
+	}
+
+	/**
+	 * Writes the step latency summary to 'stepLatencyFile' and attaches it to
+	 * the Allure report. Call once at the end of the suite.
+	 */
+	public static void writeReport() {
+		if (HISTOGRAMS.isEmpty()) {
+			return;
+		}
+
+		Map<String, Map<String, Long>> summary = new TreeMap<>();
+		for (Map.Entry<String, LatencyHistogram> entry : HISTOGRAMS.entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			Map<String, Long> stats = new LinkedHashMap<>();
+			stats.put("count", histogram.getCount());
+			stats.put("meanMs", histogram.getMean());
+			stats.put("p50Ms", histogram.getPercentile(50));
+			stats.put("p95Ms", histogram.getPercentile(95));
+			stats.put("p99Ms", histogram.getPercentile(99));
+			stats.put("maxMs", histogram.getMax());
+			summary.put(entry.getKey(), stats);
+		}
+		String json = new GsonBuilder().setPrettyPrinting().create().toJson(summary);
+
+		Path file = Paths.get(ConfigReader.getProperty("stepLatencyFile", "target/step-latency.json"));
+		try {
+			if (file.toAbsolutePath().getParent() != null) {
+				Files.createDirectories(file.toAbsolutePath().getParent());
+			}
+			Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+			LOGGER.info("Step latency for {} step(s) written to {}", summary.size(), file.toAbsolutePath());
+		} catch (IOException e) {
+			LOGGER.warn("Failed to write step latency report: " + e.getMessage());
+		}
+		Allure.addAttachment("Step Latency (p50/p95/p99)", "application/json", json, ".json");
+
+		// Console preview: the slowest steps by p95
+		List<Map.Entry<String, Map<String, Long>>> slowest = new ArrayList<>(summary.entrySet());
+		slowest.sort((a, b) -> Long.compare(b.getValue().get("p95Ms"), a.getValue().get("p95Ms")));
+		for (Map.Entry<String, Map<String, Long>> entry : slowest.subList(0, Math.min(5, slowest.size()))) {
+			LOGGER.info("Slow step: '{}' p50={}ms p95={}ms p99={}ms (n={})", entry.getKey(),
+					entry.getValue().get("p50Ms"), entry.getValue().get("p95Ms"), entry.getValue().get("p99Ms"),
+					entry.getValue().get("count"));
+		}
+	}
+}
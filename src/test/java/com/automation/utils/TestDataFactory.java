@@ -2,39 +2,164 @@ package com.automation.utils;
 
 import com.github.javafaker.Faker;
 import com.automation.models.FormData;
+import com.automation.models.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * Generates random test data. Faker is not thread-safe, so every thread owns
+ * its own instance (US locale, so phone/zip formats match the expected
+ * format). BaseTest reseeds it before each test from 'dataSeed', the test's
+ * name, its data-provider row and its retry number, so a run can be replayed
+ * with the same data by setting 'dataSeed' to the value logged at start-up,
+ * whatever order parallel rows happen to run in.
+ *
+ * With 'dataPoolSize' > 0, a background thread keeps pools of pre-generated
+ * FormData (default country) and Users filled; callers take from them without
+ * blocking and generate inline when a pool is empty. Pooled data does not
+ * follow the per-test seeds.
+ *
+ * Emails come from UniqueIdentity, so they never collide between threads,
+ * forks or runs; phone numbers from it are only unique within one JVM (the
+ * rest of the data is seeded).
+ */
 public class TestDataFactory {
- // One Faker instance to rule them all
- // We use US locale to ensure phone/zip formats match 
- // the expected format
- private static final Faker faker = new Faker(Locale.US);
 
- // Generates a FormData object with random details 
+ private static final Logger LOGGER = LoggerFactory.getLogger(TestDataFactory.class);
+
+ private static final String DEFAULT_COUNTRY = "United States";
+
+ // Run seed: fixed via -DdataSeed=... to replay a run, random otherwise
+ private static final long RUN_SEED = initRunSeed();
+
+ private static final class SeededFaker {
+  private final Random random = new Random(RUN_SEED);
+  private final Faker faker = new Faker(Locale.US, random);
+ }
+
+ private static final ThreadLocal<SeededFaker> FAKER = ThreadLocal.withInitial(SeededFaker::new);
+
+ private static final int POOL_SIZE = Integer.parseInt(ConfigReader.getProperty("dataPoolSize", "0"));
+ private static final BlockingQueue<FormData> FORM_DATA_POOL = POOL_SIZE > 0 ? new ArrayBlockingQueue<>(POOL_SIZE) : null;
+ private static final BlockingQueue<User> USER_POOL = POOL_SIZE > 0 ? new ArrayBlockingQueue<>(POOL_SIZE) : null;
+
+ static {
+  if (POOL_SIZE > 0) {
+   Thread producer = new Thread(TestDataFactory::fillPools, "test-data-pool");
+   producer.setDaemon(true);
+   producer.start();
+  }
+ }
+
+ /**
+  * Reseeds this thread's Faker for one test invocation. The same run seed,
+  * test name, data-provider row key (BaseTest derives it from the row's
+  * values) and retry number always produce the same data, independent of
+  * thread timing.
+  */
+ public static void reseed(String testName, int rowKey, int retryAttempt) {
+  // Absorb each part through the SplitMix64 finalizer (a bijection), so
+  // different (test, row, retry) combinations do not collide like a linear sum
+  long seed = mix64(RUN_SEED);
+  seed = mix64(seed ^ fnv1a64(testName));
+  seed = mix64(seed ^ rowKey);
+  seed = mix64(seed ^ retryAttempt);
+  FAKER.get().random.setSeed(seed);
+ }
+
+ // SplitMix64 output function (Steele, Lea, Flood 2014)
+ static long mix64(long z) {
+  z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+  z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+  return z ^ (z >>> 31);
+ }
+
+ // 64-bit FNV-1a over the UTF-16 chars: String.hashCode() is only 32 bits
+ private static long fnv1a64(String text) {
+  long hash = 0xCBF29CE484222325L;
+  for (int i = 0; i < text.length(); i++) {
+   hash ^= text.charAt(i);
+   hash *= 0x100000001B3L;
+  }
+  return hash;
+ }
+
+ public static long getRunSeed() {
+  return RUN_SEED;
+ }
+
+ // Generates a FormData object with random details
  // and a default country.
  public static FormData createValidData() {
-  return createValidData("United States");
+  FormData pooled = FORM_DATA_POOL != null ? FORM_DATA_POOL.poll() : null;
+  return pooled != null ? pooled : createValidData(DEFAULT_COUNTRY);
  }
 
  // Overloaded method to generate data with a specific country.
  // Useful for testing random countries from the dropdown list.
 public static FormData createValidData(String country) {
+ return createValidData(FAKER.get().faker, country);
+    }
+
+ // Generates a User for API registration. The phone number is strictly
+ // numeric to avoid locale formatting issues.
+ public static User createUser() {
+  User pooled = USER_POOL != null ? USER_POOL.poll() : null;
+  return pooled != null ? pooled : createUser(FAKER.get().faker);
+ }
+
+ private static FormData createValidData(Faker faker, String country) {
  String name = faker.name().fullName();
-        
- // Use safeEmailAddress() to avoid domains that some apps reject
- String email = faker.internet().safeEmailAddress(); 
-        
+
+ // Unique across threads/forks/runs; the seeded name keeps it readable
+ String email = UniqueIdentity.email(name.replace(' ', '.'));
+
  String password = faker.internet().password(8, 16, true, true);
  String company = faker.company().name();
  String website = faker.internet().url();
-        
+
  String city = faker.address().city();
  String address1 = faker.address().streetAddress();
  String address2 = faker.address().secondaryAddress();
  String state = faker.address().state();
  String zipCode = faker.address().zipCode();
 
- return new FormData(name, email, password, company, website, 
+ return new FormData(name, email, password, company, website,
               country, city, address1, address2, state, zipCode);
     }
+
+ private static User createUser(Faker faker) {
+  String firstName = faker.name().firstName();
+  String lastName = faker.name().lastName();
+  return new User(firstName, lastName, UniqueIdentity.email(firstName + "." + lastName),
+              UniqueIdentity.phone(), faker.internet().password(10, 20, true, true, true));
+ }
+
+ // Producer: tops up whichever pool is emptier, blocking while both are full
+ private static void fillPools() {
+  Faker faker = new Faker(Locale.US);
+  try {
+   while (true) {
+    if (FORM_DATA_POOL.size() <= USER_POOL.size()) {
+     FORM_DATA_POOL.put(createValidData(faker, DEFAULT_COUNTRY));
+    } else {
+     USER_POOL.put(createUser(faker));
+    }
+   }
+  } catch (InterruptedException e) {
+   Thread.currentThread().interrupt();
+  }
+ }
+
+ private static long initRunSeed() {
+  String configured = ConfigReader.getProperty("dataSeed", "");
+  long seed = configured.trim().isEmpty() ? new Random().nextLong() : Long.parseLong(configured.trim());
+  LOGGER.info("Test data seed: {} (rerun with -DdataSeed={} to reproduce)", seed, seed);
+  return seed;
+ }
 }
@@ -0,0 +1,89 @@
+package com.automation.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * -------------------------------------------------------------------
+ * Class Name:        	UniqueIdentity
+ * Description:       	Lock-free generator of collision-free emails and
+ * 						usernames, plus phone numbers that are unique
+ * 						within one JVM only (see phone()).
+ * Responsibilities:
+ * 1. Token:          	run ID + fork ID + thread ID + an atomic counter,
+ * 						in base 36. Two calls never return the same token,
+ * 						whatever the thread, fork or time.
+ * 2. Run ID:         	'runId' (e.g. the CI build number), or random per
+ * 						JVM. Must differ between runs against the same
+ * 						site, as registered emails persist.
+ * 3. Fork ID:        	'forkId' (e.g. surefire's ${surefire.forkNumber}),
+ * 						or the process ID.
+ * Author:            	[Your Name]
+ * Date:              	[Current Date]
+ * -------------------------------------------------------------------
+ */
+public final class UniqueIdentity {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UniqueIdentity.class);
+
+	private static final String RUN_ID = sanitize(ConfigReader.getProperty("runId",
+			Long.toString(System.currentTimeMillis() / 1000, 36)
+					+ Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36), 36)));
+	private static final String FORK_ID = sanitize(ConfigReader.getProperty("forkId", processId()));
+	private static final String EMAIL_DOMAIN = ConfigReader.getProperty("identityEmailDomain", "example.com");
+
+	private static final AtomicLong COUNTER = new AtomicLong();
+
+	static {
+		LOGGER.info("Unique identities use run '{}' and fork '{}'", RUN_ID, FORK_ID);
+	}
+
+	private UniqueIdentity() {
+	}
+
+	/** A token no other call in any thread, fork or run returns, e.g. "kx3f9a-4120-1-2s". */
+	public static String nextToken() {
+		return RUN_ID + "-" + FORK_ID + "-" + Long.toString(Thread.currentThread().getId(), 36) + "-"
+				+ Long.toString(COUNTER.incrementAndGet(), 36);
+	}
+
+	/** e.g. email("John.Smith") = "john.smith.kx3f9a-4120-1-2s@example.com". */
+	public static String email(String localPart) {
+		// No leading, trailing or doubled dots ("Mr. Jr." names), which are invalid
+		String prefix = sanitize(localPart).replaceAll("\\.{2,}", ".").replaceAll("^\\.|\\.$", "");
+		return (prefix.isEmpty() ? "user" : prefix) + "." + nextToken() + "@" + EMAIL_DOMAIN;
+	}
+
+	/** e.g. username("qa") = "qa_kx3f9a_4120_1_2s". */
+	public static String username(String prefix) {
+		return (sanitize(prefix) + "_" + nextToken()).replace('-', '_').replace('.', '_');
+	}
+
+	/**
+	 * A realistic 10-digit number: 2 digits hashed from the run and fork (90
+	 * buckets), then the counter. Only unique within one JVM (for 100 million
+	 * calls): two forks or runs that hash to the same bucket repeat numbers, as
+	 * 10 digits cannot hold the full token. OpenCart does not require unique
+	 * telephones; use {@link #email} or {@link #username} where uniqueness
+	 * matters.
+	 */
+	public static String phone() {
+		int prefix = Math.floorMod((RUN_ID + FORK_ID).hashCode(), 90) + 10;
+		return prefix + String.format("%08d", COUNTER.incrementAndGet() % 100_000_000L);
+	}
+
+	private static String processId() {
+		// "pid@host" on HotSpot; unique among JVMs running at the same time
+		String name = ManagementFactory.getRuntimeMXBean().getName();
+		return name.contains("@") ? name.substring(0, name.indexOf('@')) : name;
+	}
+
+	private static String sanitize(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "");
+	}
+}